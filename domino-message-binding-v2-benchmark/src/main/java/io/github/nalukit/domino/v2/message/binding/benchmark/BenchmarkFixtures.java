@@ -0,0 +1,126 @@
+package io.github.nalukit.domino.v2.message.binding.benchmark;
+
+import io.github.nalukit.domino.v2.message.binding.benchmark.compiler.InMemoryCompiler;
+import io.github.nalukit.domino.v2.message.binding.client.handling.AbstractDominoV2MessageDriver;
+import io.github.nalukit.domino.v2.message.binding.client.stub.StubEnvironment;
+import io.github.nalukit.domino.v2.message.binding.shared.model.IsDominoV2Message;
+import io.nalukit.domino.v2.message.binding.processor.DominoV2MessageProcessor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Creates the drivers and messages used by the benchmarks
+ */
+public class BenchmarkFixtures {
+
+  private final static String PACKAGE_NAME = "io.github.nalukit.domino.v2.message.binding.benchmark.fixture";
+
+  /* field count -> class loader of the compiled form and its generated driver */
+  private final static Map<Integer, ClassLoader> CLASS_LOADERS = new HashMap<>();
+
+  private BenchmarkFixtures() {
+  }
+
+  /**
+   * Creates an initialized driver for the form
+   *
+   * @param provider the form
+   * @return the driver generated by the processor
+   */
+  @SuppressWarnings("unchecked")
+  public static AbstractDominoV2MessageDriver<BenchmarkMessageProvider> createDriver(BenchmarkMessageProvider provider) {
+    AbstractDominoV2MessageDriver<BenchmarkMessageProvider> driver = (AbstractDominoV2MessageDriver<BenchmarkMessageProvider>) BenchmarkFixtures.newInstance(provider.getClass()
+                                                                                                                                                                     .getClassLoader(),
+                                                                                                                                                            provider.getClass()
+                                                                                                                                                                    .getName() + "MessageDriverImpl");
+    driver.initialize(provider);
+    return driver;
+  }
+
+  /**
+   * Creates a form with the given number of fields.
+   * <p>
+   * The form and its driver are compiled once per field count.
+   *
+   * @param fieldCount number of fields
+   * @return the form
+   */
+  public static BenchmarkMessageProvider createProvider(int fieldCount) {
+    StubEnvironment.init();
+    ClassLoader classLoader = BenchmarkFixtures.CLASS_LOADERS.computeIfAbsent(fieldCount,
+                                                                               BenchmarkFixtures::compile);
+    return (BenchmarkMessageProvider) BenchmarkFixtures.newInstance(classLoader,
+                                                                    BenchmarkFixtures.className(fieldCount));
+  }
+
+  /**
+   * Creates field messages. The messages are spread over the fields,
+   * starting at field <code>offset</code>.
+   *
+   * @param messageCount number of messages
+   * @param fieldCount   number of fields of the form
+   * @param offset       index of the field of the first message
+   * @param text         message text
+   * @return the messages
+   */
+  public static List<IsDominoV2Message> createFieldMessages(int messageCount,
+                                                            int fieldCount,
+                                                            int offset,
+                                                            String text) {
+    List<IsDominoV2Message> messages = new ArrayList<>(messageCount);
+    for (int i = 0; i < messageCount; i++) {
+      int index = (offset + i) % fieldCount;
+      messages.add(new BenchmarkMessage(String.valueOf(i),
+                                        "MSG-" + index,
+                                        text + " " + index,
+                                        IsDominoV2Message.Target.FIELD,
+                                        Collections.singletonList(BenchmarkMessageProvider.fieldId(index))));
+    }
+    return messages;
+  }
+
+  private static String className(int fieldCount) {
+    return BenchmarkFixtures.PACKAGE_NAME + ".BenchmarkMessageProvider" + fieldCount;
+  }
+
+  /* compiles a form with the given number of fields, the processor generates the driver */
+  private static ClassLoader compile(int fieldCount) {
+    StringBuilder sb = new StringBuilder();
+    sb.append("package ")
+      .append(BenchmarkFixtures.PACKAGE_NAME)
+      .append(";\n\n")
+      .append("@io.github.nalukit.domino.v2.message.binding.client.handling.annotation.HasDominoV2MessageDriverSupport\n")
+      .append("public class BenchmarkMessageProvider")
+      .append(fieldCount)
+      .append(" extends io.github.nalukit.domino.v2.message.binding.benchmark.BenchmarkMessageProvider {\n");
+    for (int i = 0; i < fieldCount; i++) {
+      sb.append("\n  @io.github.nalukit.domino.v2.message.binding.client.handling.annotation.DominoV2MessagePresenter(\"")
+        .append(BenchmarkMessageProvider.fieldId(i))
+        .append("\")\n")
+        .append("  io.github.nalukit.domino.v2.message.binding.client.stub.StubFormElement field")
+        .append(i)
+        .append(" = io.github.nalukit.domino.v2.message.binding.client.stub.StubFormElement.create();\n");
+    }
+    sb.append("\n}\n");
+    return new InMemoryCompiler().load(Collections.singletonList(InMemoryCompiler.source(BenchmarkFixtures.className(fieldCount),
+                                                                                         sb.toString())),
+                                       Collections.singletonList(new DominoV2MessageProcessor()));
+  }
+
+  private static Object newInstance(ClassLoader classLoader,
+                                    String className) {
+    try {
+      return classLoader.loadClass(className)
+                        .getConstructor()
+                        .newInstance();
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalStateException("unable to create >>" + className + "<<",
+                                      e);
+    }
+  }
+
+}
@@ -0,0 +1,81 @@
+package io.github.nalukit.domino.v2.message.binding.benchmark;
+
+import io.github.nalukit.domino.v2.message.binding.shared.model.IsDominoV2Message;
+
+import java.util.List;
+
+/**
+ * Plain implementation of a message used by the benchmarks
+ */
+public class BenchmarkMessage
+    implements IsDominoV2Message {
+
+  private String       id;
+  private String       messageId;
+  private String       text;
+  private Target       target;
+  private List<String> errorSources;
+
+  public BenchmarkMessage(String id,
+                          String messageId,
+                          String text,
+                          Target target,
+                          List<String> errorSources) {
+    this.id = id;
+    this.messageId = messageId;
+    this.text = text;
+    this.target = target;
+    this.errorSources = errorSources;
+  }
+
+  @Override
+  public String getId() {
+    return id;
+  }
+
+  @Override
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  @Override
+  public String getMessageId() {
+    return messageId;
+  }
+
+  @Override
+  public void setMessageId(String messageId) {
+    this.messageId = messageId;
+  }
+
+  @Override
+  public String getText() {
+    return text;
+  }
+
+  @Override
+  public void setText(String text) {
+    this.text = text;
+  }
+
+  @Override
+  public Target getTarget() {
+    return target;
+  }
+
+  @Override
+  public void setTarget(Target target) {
+    this.target = target;
+  }
+
+  @Override
+  public List<String> getErrorSources() {
+    return errorSources;
+  }
+
+  @Override
+  public void setErrorSources(List<String> errorSources) {
+    this.errorSources = errorSources;
+  }
+
+}
@@ -0,0 +1,20 @@
+package io.github.nalukit.domino.v2.message.binding.benchmark;
+
+import io.github.nalukit.domino.v2.message.binding.client.handling.IsDominoV2MessageProvider;
+
+/**
+ * Super class of the forms used by the benchmarks.
+ * <p>
+ * The forms are created by {@link BenchmarkFixtures}: a sub class with the
+ * requested number of annotated fields is compiled in memory and its driver
+ * is generated by the processor. The field with index <code>i</code> uses
+ * the field id <code>field{i}</code>.
+ */
+public abstract class BenchmarkMessageProvider
+    implements IsDominoV2MessageProvider {
+
+  public static String fieldId(int index) {
+    return "field" + index;
+  }
+
+}
@@ -0,0 +1,108 @@
+package io.github.nalukit.domino.v2.message.binding.benchmark;
+
+import io.github.nalukit.domino.v2.message.binding.client.handling.AbstractDominoV2MessageDriver;
+import io.github.nalukit.domino.v2.message.binding.shared.model.IsDominoV2Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the driver applies messages to the fields of a form
+ * (<code>consume</code>, <code>replace</code> and <code>clearInvalid</code>).
+ * <p>
+ * <code>clearInvalid</code> can not be measured on its own (there has to be
+ * something to clear). Its cost is the difference between
+ * <code>consumeAndClearInvalid</code> and <code>consume</code>.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+public class DriverConsumeBenchmark {
+
+  /* the drivers are generated by the processor - forms above 500 fields get chunked methods */
+  @Param({ "10",
+           "100",
+           "500",
+           "1000",
+           "2000",
+           "5000" })
+  private int fieldCount;
+
+  @Param({ "1",
+           "10",
+           "100",
+           "1000" })
+  private int messageCount;
+
+  private AbstractDominoV2MessageDriver<BenchmarkMessageProvider> driver;
+
+  /* messages of the first and second server response - overlapping, with different texts */
+  private List<IsDominoV2Message> messages;
+  private List<IsDominoV2Message> changedMessages;
+
+  private boolean changed;
+
+  @Setup
+  public void setUp() {
+    this.driver = BenchmarkFixtures.createDriver(BenchmarkFixtures.createProvider(this.fieldCount));
+    this.messages = BenchmarkFixtures.createFieldMessages(this.messageCount,
+                                                          this.fieldCount,
+                                                          0,
+                                                          "error");
+    this.changedMessages = BenchmarkFixtures.createFieldMessages(this.messageCount,
+                                                                 this.fieldCount,
+                                                                 this.messageCount / 2,
+                                                                 "changed");
+  }
+
+  /**
+   * The same messages again and again: fields are already invalid
+   */
+  @Benchmark
+  public void consume() {
+    this.driver.consume(this.messages);
+  }
+
+  /**
+   * Marks the fields as invalid and clears them afterwards
+   */
+  @Benchmark
+  public void consumeAndClearInvalid() {
+    this.driver.consume(this.messages);
+    this.driver.clearInvalid();
+  }
+
+  /**
+   * The same messages again and again: nothing has changed
+   */
+  @Benchmark
+  public void replaceUnchanged() {
+    this.driver.replace(this.messages);
+  }
+
+  /**
+   * Alternates between two responses: some fields are cleared, some change their text
+   */
+  @Benchmark
+  public void replaceChanged() {
+    this.changed = !this.changed;
+    this.driver.replace(this.changed ? this.changedMessages : this.messages);
+  }
+
+}
@@ -0,0 +1,74 @@
+package io.github.nalukit.domino.v2.message.binding.benchmark;
+
+import io.github.nalukit.domino.v2.message.binding.client.handling.AbstractDominoV2MessageDriver;
+import io.github.nalukit.domino.v2.message.binding.shared.model.IsDominoV2Message;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.List;
+
+/**
+ * Prints the retained heap size of a driver for different form sizes.
+ * <p>
+ * The form elements are not part of the driver and are excluded.
+ * Run with:
+ * <pre>
+ * java -cp target/benchmarks.jar io.github.nalukit.domino.v2.message.binding.benchmark.DriverFootprint
+ * </pre>
+ */
+public class DriverFootprint {
+
+  private final static int[] FIELD_COUNTS = { 10,
+                                              100,
+                                              500,
+                                              1000,
+                                              2000,
+                                              5000 };
+
+  public static void main(String[] args) {
+    // the blur listeners are lambdas (hidden classes) - JOL needs this to get their field offsets
+    if (System.getProperty("jol.magicFieldOffset") == null) {
+      System.setProperty("jol.magicFieldOffset",
+                         "true");
+    }
+    System.out.printf("%10s %16s %16s %16s %14s%n",
+                      "fields",
+                      "initialized (B)",
+                      "registered (B)",
+                      "invalid (B)",
+                      "per field (B)");
+    for (int fieldCount : DriverFootprint.FIELD_COUNTS) {
+      BenchmarkMessageProvider provider = BenchmarkFixtures.createProvider(fieldCount);
+      AbstractDominoV2MessageDriver<BenchmarkMessageProvider> driver = BenchmarkFixtures.createDriver(provider);
+      long initialized = DriverFootprint.footprint(driver,
+                                                   provider);
+      driver.register();
+      long registered = DriverFootprint.footprint(driver,
+                                                  provider);
+      List<IsDominoV2Message> messages = BenchmarkFixtures.createFieldMessages(fieldCount,
+                                                                               fieldCount,
+                                                                               0,
+                                                                               "error");
+      driver.consume(messages);
+      // the message texts belong to the messages, not to the driver
+      long invalid = DriverFootprint.footprint(driver,
+                                               provider,
+                                               messages);
+      System.out.printf("%10d %16d %16d %16d %14d%n",
+                        fieldCount,
+                        initialized,
+                        registered,
+                        invalid,
+                        invalid / fieldCount);
+    }
+  }
+
+  private static long footprint(AbstractDominoV2MessageDriver<BenchmarkMessageProvider> driver,
+                                Object... excluded) {
+    GraphLayout layout = GraphLayout.parseInstance(driver);
+    for (Object o : excluded) {
+      layout = layout.subtract(GraphLayout.parseInstance(o));
+    }
+    return layout.totalSize();
+  }
+
+}
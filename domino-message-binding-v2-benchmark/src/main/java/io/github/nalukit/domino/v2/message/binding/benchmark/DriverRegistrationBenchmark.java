@@ -0,0 +1,63 @@
+package io.github.nalukit.domino.v2.message.binding.benchmark;
+
+import io.github.nalukit.domino.v2.message.binding.client.handling.AbstractDominoV2MessageDriver;
+import io.github.nalukit.domino.v2.message.binding.client.stub.StubFieldSetElement;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures adding and removing the blur listeners:
+ * one listener per field compared to one delegated listener on the root element.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+public class DriverRegistrationBenchmark {
+
+  /* the drivers are generated by the processor - forms above 500 fields get chunked methods */
+  @Param({ "10",
+           "100",
+           "500",
+           "1000",
+           "2000",
+           "5000" })
+  private int fieldCount;
+
+  private AbstractDominoV2MessageDriver<BenchmarkMessageProvider> driver;
+  private StubFieldSetElement                                     rootElement;
+
+  @Setup
+  public void setUp() {
+    this.driver = BenchmarkFixtures.createDriver(BenchmarkFixtures.createProvider(this.fieldCount));
+    this.rootElement = new StubFieldSetElement();
+  }
+
+  @Benchmark
+  public void registerAndDeregister() {
+    this.driver.register();
+    this.driver.deregister();
+  }
+
+  @Benchmark
+  public void registerAndDeregisterDelegated() {
+    this.driver.register(this.rootElement);
+    this.driver.deregister();
+  }
+
+}
@@ -0,0 +1,119 @@
+package io.github.nalukit.domino.v2.message.binding.benchmark;
+
+import io.github.nalukit.domino.v2.message.binding.shared.GUID;
+import io.github.nalukit.domino.v2.message.binding.shared.guid.CounterGUIDStrategy;
+import io.github.nalukit.domino.v2.message.binding.shared.guid.GUIDStrategy;
+import io.github.nalukit.domino.v2.message.binding.shared.guid.RandomGUIDStrategy;
+import io.github.nalukit.domino.v2.message.binding.shared.guid.ThreadLocalRandomGUIDStrategy;
+import io.github.nalukit.domino.v2.message.binding.shared.guid.TimeOrderedGUIDStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the creation of message ids by the different strategies,
+ * with one thread and with all available threads (contention)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GuidBenchmark {
+
+  @Param({ "mathRandom",
+           "random",
+           "threadLocalRandom",
+           "timeOrdered",
+           "counter" })
+  public String strategy;
+
+  private final List<String> errorSources = Arrays.asList("person.name",
+                                                          "person.address.street");
+
+  @Setup
+  public void setUp() {
+    GUID.setStrategy(GuidBenchmark.createStrategy(this.strategy));
+  }
+
+  @Benchmark
+  public String get() {
+    return GUID.get();
+  }
+
+  @Benchmark
+  @Threads(Threads.MAX)
+  public String getContended() {
+    return GUID.get();
+  }
+
+  @Benchmark
+  public String getWithLength() {
+    return GUID.get(15);
+  }
+
+  @Benchmark
+  public String getContentAddressed() {
+    return GUID.get("ERROR_NAME_REQUIRED",
+                    this.errorSources);
+  }
+
+  private static GUIDStrategy createStrategy(String strategy) {
+    switch (strategy) {
+      case "mathRandom":
+        return new MathRandomGUIDStrategy();
+      case "random":
+        return new RandomGUIDStrategy();
+      case "threadLocalRandom":
+        return new ThreadLocalRandomGUIDStrategy();
+      case "timeOrdered":
+        return new TimeOrderedGUIDStrategy();
+      case "counter":
+        return new CounterGUIDStrategy();
+      default:
+        throw new IllegalArgumentException("unknown strategy: " + strategy);
+    }
+  }
+
+  /**
+   * The previous implementation of GUID.get(): one call
+   * to Math.random() per character (baseline)
+   */
+  private static class MathRandomGUIDStrategy
+      implements GUIDStrategy {
+
+    private static final char[] CHARS = "0123456789ABCDEF".toCharArray();
+
+    @Override
+    public String next() {
+      char[] uuid = new char[36];
+      uuid[8] = uuid[13] = uuid[18] = uuid[23] = '-';
+      uuid[14] = '4';
+      for (int i = 0; i < 36; i++) {
+        if (uuid[i] == 0) {
+          int r = (int) (Math.random() * 16);
+          uuid[i] = CHARS[(i == 19) ? (r & 0x3) | 0x8 : r & 0xf];
+        }
+      }
+      return new String(uuid);
+    }
+
+  }
+
+}
@@ -0,0 +1,71 @@
+package io.github.nalukit.domino.v2.message.binding.benchmark;
+
+import io.github.nalukit.domino.v2.message.binding.client.handling.AbstractDominoV2MessageDriver;
+import io.github.nalukit.domino.v2.message.binding.shared.codec.DominoV2EncodedMessages;
+import io.github.nalukit.domino.v2.message.binding.shared.codec.DominoV2MessageCodec;
+import io.github.nalukit.domino.v2.message.binding.shared.model.IsDominoV2Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures encoding and decoding of a message list using the dictionary codec
+ * and applying the decoded messages to a driver.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+public class MessageCodecBenchmark {
+
+  @Param({ "100",
+           "1000",
+           "5000" })
+  private int messageCount;
+
+  private List<IsDominoV2Message>                                 messages;
+  private DominoV2EncodedMessages                                 encoded;
+  private AbstractDominoV2MessageDriver<BenchmarkMessageProvider> driver;
+
+  @Setup
+  public void setUp() {
+    // 100 fields -> texts and error sources repeat
+    this.messages = BenchmarkFixtures.createFieldMessages(this.messageCount,
+                                                          100,
+                                                          0,
+                                                          "error");
+    this.encoded = DominoV2MessageCodec.encode(this.messages);
+    this.driver = BenchmarkFixtures.createDriver(BenchmarkFixtures.createProvider(100));
+  }
+
+  @Benchmark
+  public DominoV2EncodedMessages encode() {
+    return DominoV2MessageCodec.encode(this.messages);
+  }
+
+  @Benchmark
+  public List<IsDominoV2Message> decode() {
+    return DominoV2MessageCodec.decode(this.encoded);
+  }
+
+  @Benchmark
+  public void decodeAndReplace() {
+    this.driver.replace(DominoV2MessageCodec.decode(this.encoded));
+  }
+
+}
@@ -0,0 +1,100 @@
+package io.github.nalukit.domino.v2.message.binding.benchmark;
+
+import io.github.nalukit.domino.v2.message.binding.client.DominoV2MessageFactory;
+import io.github.nalukit.domino.v2.message.binding.client.presenter.IsProgressBarPresenter;
+import io.github.nalukit.domino.v2.message.binding.client.presenter.PresenterRegistration;
+import io.github.nalukit.domino.v2.message.binding.shared.model.IsDominoV2Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the calls of the MessageFactory using presenters that do nothing
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3,
+        time = 1)
+@Measurement(iterations = 5,
+             time = 1)
+@Fork(1)
+public class MessageFactoryBenchmark {
+
+  private PresenterRegistration progressBarPresenterRegistration;
+  private PresenterRegistration messagePresenterRegistration;
+
+  private IsDominoV2Message dialogMessage;
+
+  @Setup
+  public void setUp(Blackhole blackhole) {
+    this.progressBarPresenterRegistration = DominoV2MessageFactory.get()
+                                                                  .register(new IsProgressBarPresenter() {
+
+                                                                    @Override
+                                                                    public void hide() {
+                                                                      blackhole.consume(false);
+                                                                    }
+
+                                                                    @Override
+                                                                    public void showDefault() {
+                                                                      blackhole.consume(true);
+                                                                    }
+
+                                                                    @Override
+                                                                    public void show(String message) {
+                                                                      blackhole.consume(message);
+                                                                    }
+
+                                                                  });
+    this.messagePresenterRegistration = DominoV2MessageFactory.get()
+                                                              .register(IsDominoV2Message.Target.DIALOG,
+                                                                        blackhole::consume);
+    this.dialogMessage = new BenchmarkMessage("1",
+                                              "MSG-1",
+                                              "dialog",
+                                              IsDominoV2Message.Target.DIALOG,
+                                              Collections.emptyList());
+  }
+
+  @TearDown
+  public void tearDown() {
+    this.progressBarPresenterRegistration.remove();
+    this.messagePresenterRegistration.remove();
+  }
+
+  @Benchmark
+  public void showAndHideProgressBar() {
+    DominoV2MessageFactory.get()
+                          .showProgressBar();
+    DominoV2MessageFactory.get()
+                          .hideProgressBar();
+  }
+
+  @Benchmark
+  public void showAndHideProgressBarWithText() {
+    DominoV2MessageFactory.get()
+                          .showProgressBar("loading ...");
+    DominoV2MessageFactory.get()
+                          .hideProgressBar();
+  }
+
+  @Benchmark
+  public void route() {
+    DominoV2MessageFactory.get()
+                          .route(this.dialogMessage);
+  }
+
+}
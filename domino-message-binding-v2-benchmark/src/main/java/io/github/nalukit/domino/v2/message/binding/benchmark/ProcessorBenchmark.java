@@ -0,0 +1,70 @@
+package io.github.nalukit.domino.v2.message.binding.benchmark;
+
+import io.github.nalukit.domino.v2.message.binding.benchmark.compiler.InMemoryCompiler;
+import io.github.nalukit.domino.v2.message.binding.benchmark.compiler.SyntheticProviders;
+import io.nalukit.domino.v2.message.binding.processor.DominoV2MessageProcessor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.tools.JavaFileObject;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the annotation processor on synthetic projects compiled in memory.
+ * <p>
+ * <code>parse</code> runs the compilation without processor, so the difference
+ * to <code>process</code> is the cost of the processor (validation, generation
+ * and parsing the generated drivers).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1,
+      jvmArgsAppend = "-Xmx2g")
+public class ProcessorBenchmark {
+
+  @Param({ "100",
+           "1000",
+           "3000" })
+  public int providerCount;
+
+  @Param({ "10",
+           "50" })
+  public int fieldCount;
+
+  private InMemoryCompiler     compiler;
+  private List<JavaFileObject> sources;
+
+  @Setup
+  public void setUp() {
+    this.compiler = new InMemoryCompiler();
+    this.sources = SyntheticProviders.create(this.providerCount,
+                                             this.fieldCount);
+  }
+
+  @Benchmark
+  public List<JavaFileObject> parse() {
+    return this.compiler.compile(this.sources,
+                                 Collections.emptyList());
+  }
+
+  @Benchmark
+  public List<JavaFileObject> process() {
+    return this.compiler.compile(this.sources,
+                                 Collections.singletonList(new DominoV2MessageProcessor()));
+  }
+
+}
@@ -0,0 +1,265 @@
+package io.github.nalukit.domino.v2.message.binding.benchmark.compiler;
+
+import javax.annotation.processing.Processor;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Runs javac on sources held in memory. Generated sources and class files
+ * are kept in memory as well, nothing is written to the disk.
+ * <p>
+ * <code>compile</code> runs with <code>-proc:only</code>: the compilation stops
+ * once the annotation processing is done, so the result shows the cost of
+ * parsing and processing, not the cost of the byte code generation.
+ * <code>load</code> compiles the sources and the generated sources and loads
+ * the classes.
+ * <p>
+ * The classpath of the compilation is the classpath of the running JVM.
+ */
+public class InMemoryCompiler {
+
+  private final JavaCompiler            compiler;
+  private final StandardJavaFileManager standardFileManager;
+
+  public InMemoryCompiler() {
+    this.compiler = ToolProvider.getSystemJavaCompiler();
+    if (Objects.isNull(this.compiler)) {
+      throw new IllegalStateException("no system java compiler (running on a JRE?)");
+    }
+    // reused: the jars of the classpath are opened once
+    this.standardFileManager = this.compiler.getStandardFileManager(null,
+                                                                    null,
+                                                                    StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Creates a source held in memory
+   *
+   * @param className fully qualified name of the class
+   * @param source    the source
+   * @return the source file
+   */
+  public static JavaFileObject source(String className,
+                                      String source) {
+    return new MemoryFileObject(className,
+                                JavaFileObject.Kind.SOURCE,
+                                source);
+  }
+
+  /**
+   * Compiles the sources
+   *
+   * @param sources    the sources
+   * @param processors the annotation processors to run, empty -> parse only
+   * @return the files generated by the processors
+   */
+  public List<JavaFileObject> compile(List<JavaFileObject> sources,
+                                      List<? extends Processor> processors) {
+    MemoryFileManager fileManager = new MemoryFileManager(this.standardFileManager);
+    this.run(fileManager,
+             sources,
+             processors,
+             "-proc:only");
+    return fileManager.getGeneratedFiles();
+  }
+
+  /**
+   * Compiles the sources and the sources generated by the processors
+   * and loads the classes
+   *
+   * @param sources    the sources
+   * @param processors the annotation processors to run
+   * @return class loader of the compiled classes
+   */
+  public ClassLoader load(List<JavaFileObject> sources,
+                          List<? extends Processor> processors) {
+    MemoryFileManager fileManager = new MemoryFileManager(this.standardFileManager);
+    this.run(fileManager,
+             sources,
+             processors,
+             "-implicit:none");
+    Map<String, byte[]> classes = new HashMap<>();
+    for (JavaFileObject file : fileManager.getGeneratedFiles()) {
+      if (file.getKind() == JavaFileObject.Kind.CLASS) {
+        MemoryFileObject classFile = (MemoryFileObject) file;
+        classes.put(classFile.getClassName(),
+                    classFile.getBytes());
+      }
+    }
+    return new MemoryClassLoader(classes,
+                                 InMemoryCompiler.class.getClassLoader());
+  }
+
+  private void run(MemoryFileManager fileManager,
+                   List<JavaFileObject> sources,
+                   List<? extends Processor> processors,
+                   String option) {
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    // empty source path: the sources contained in the jars of the classpath are ignored
+    JavaCompiler.CompilationTask task = this.compiler.getTask(null,
+                                                              fileManager,
+                                                              diagnostics,
+                                                              Arrays.asList(option,
+                                                                            "-sourcepath",
+                                                                            "",
+                                                                            "-classpath",
+                                                                            System.getProperty("java.class.path")),
+                                                              null,
+                                                              sources);
+    task.setProcessors(processors);
+    if (!task.call()) {
+      StringBuilder sb = new StringBuilder("compilation failed:");
+      for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+        if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+          sb.append("\n")
+            .append(diagnostic.getMessage(null));
+        }
+      }
+      throw new IllegalStateException(sb.toString());
+    }
+  }
+
+  static class MemoryFileObject
+      extends SimpleJavaFileObject {
+
+    private final String                className;
+    private       String                source;
+    private       ByteArrayOutputStream content;
+
+    MemoryFileObject(String className,
+                     Kind kind,
+                     String source) {
+      super(URI.create("mem:///" + className.replace('.',
+                                                     '/') + kind.extension),
+            kind);
+      this.className = className;
+      this.source = source;
+    }
+
+    String getClassName() {
+      return this.className;
+    }
+
+    byte[] getBytes() {
+      return this.content.toByteArray();
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      if (Objects.isNull(this.source)) {
+        this.source = Objects.isNull(this.content) ? "" : this.content.toString(StandardCharsets.UTF_8);
+      }
+      return this.source;
+    }
+
+    @Override
+    public OutputStream openOutputStream() {
+      this.content = new ByteArrayOutputStream();
+      this.source = null;
+      return this.content;
+    }
+
+    /**
+     * Returns the size of the written content
+     *
+     * @return size in bytes
+     */
+    public int getSize() {
+      return Objects.isNull(this.content) ? this.source.length() : this.content.size();
+    }
+
+  }
+
+  static class MemoryFileManager
+      extends ForwardingJavaFileManager<JavaFileManager> {
+
+    private final List<JavaFileObject> generatedFiles;
+
+    MemoryFileManager(JavaFileManager fileManager) {
+      super(fileManager);
+      this.generatedFiles = new ArrayList<>();
+    }
+
+    @Override
+    public JavaFileObject getJavaFileForOutput(Location location,
+                                               String className,
+                                               JavaFileObject.Kind kind,
+                                               FileObject sibling)
+        throws IOException {
+      MemoryFileObject file = new MemoryFileObject(className,
+                                                   kind,
+                                                   null);
+      this.generatedFiles.add(file);
+      return file;
+    }
+
+    @Override
+    public boolean isSameFile(FileObject a,
+                              FileObject b) {
+      if (a instanceof MemoryFileObject || b instanceof MemoryFileObject) {
+        return a == b;
+      }
+      return super.isSameFile(a,
+                              b);
+    }
+
+    /**
+     * Don't close the wrapped file manager, it is reused by the next compilation
+     */
+    @Override
+    public void close() {
+    }
+
+    List<JavaFileObject> getGeneratedFiles() {
+      return Collections.unmodifiableList(this.generatedFiles);
+    }
+
+  }
+
+  static class MemoryClassLoader
+      extends ClassLoader {
+
+    private final Map<String, byte[]> classes;
+
+    MemoryClassLoader(Map<String, byte[]> classes,
+                      ClassLoader parent) {
+      super(parent);
+      this.classes = classes;
+    }
+
+    @Override
+    protected Class<?> findClass(String name)
+        throws ClassNotFoundException {
+      byte[] bytes = this.classes.get(name);
+      if (Objects.isNull(bytes)) {
+        throw new ClassNotFoundException(name);
+      }
+      return super.defineClass(name,
+                               bytes,
+                               0,
+                               bytes.length);
+    }
+
+  }
+
+}
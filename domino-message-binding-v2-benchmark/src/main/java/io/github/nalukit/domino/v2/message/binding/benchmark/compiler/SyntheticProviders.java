@@ -0,0 +1,95 @@
+package io.github.nalukit.domino.v2.message.binding.benchmark.compiler;
+
+import javax.tools.JavaFileObject;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Creates the sources of a synthetic project: message providers
+ * annotated with <code>@HasDominoV2MessageDriverSupport</code>,
+ * each binding a number of Domino-UI form elements.
+ * <p>
+ * The fields use the different kinds of form elements and bindings
+ * (fields, suppliers and getters). Every fourth provider extends
+ * the provider created before.
+ */
+public class SyntheticProviders {
+
+  /* providers per package */
+  private final static int PACKAGE_SIZE = 100;
+
+  private final static String[] FORM_ELEMENT_TYPES = { "org.dominokit.domino.ui.forms.TextBox",
+                                                       "org.dominokit.domino.ui.forms.suggest.Select<String>",
+                                                       "org.dominokit.domino.ui.forms.RadioGroup<String>",
+                                                       "org.dominokit.domino.ui.forms.CheckBox",
+                                                       "org.dominokit.domino.ui.forms.IntegerBox" };
+
+  private SyntheticProviders() {
+  }
+
+  /**
+   * Creates the sources of the providers
+   *
+   * @param providerCount number of providers
+   * @param fieldCount    number of form elements per provider
+   * @return the sources
+   */
+  public static List<JavaFileObject> create(int providerCount,
+                                            int fieldCount) {
+    List<JavaFileObject> sources = new ArrayList<>(providerCount);
+    for (int i = 0; i < providerCount; i++) {
+      String packageName = "bench.p" + i / SyntheticProviders.PACKAGE_SIZE;
+      String className = "Provider" + i;
+      // the super class has to be part of the same package
+      boolean subClass = i % 4 == 3 && i % SyntheticProviders.PACKAGE_SIZE != 0;
+      StringBuilder sb = new StringBuilder();
+      sb.append("package ")
+        .append(packageName)
+        .append(";\n\n")
+        .append("@io.github.nalukit.domino.v2.message.binding.client.handling.annotation.HasDominoV2MessageDriverSupport\n")
+        .append("public class ")
+        .append(className);
+      if (subClass) {
+        sb.append(" extends Provider")
+          .append(i - 1);
+      } else {
+        sb.append(" implements io.github.nalukit.domino.v2.message.binding.client.handling.IsDominoV2MessageProvider");
+      }
+      sb.append(" {\n");
+      for (int f = 0; f < fieldCount; f++) {
+        String type = SyntheticProviders.FORM_ELEMENT_TYPES[f % SyntheticProviders.FORM_ELEMENT_TYPES.length];
+        String fieldId = "provider" + i + ".field" + f;
+        sb.append("\n  @io.github.nalukit.domino.v2.message.binding.client.handling.annotation.DominoV2MessagePresenter(\"")
+          .append(fieldId)
+          .append("\")\n");
+        switch (f % 3) {
+          case 1:
+            sb.append("  java.util.function.Supplier<")
+              .append(type)
+              .append("> field")
+              .append(f)
+              .append(";\n");
+            break;
+          case 2:
+            sb.append("  public ")
+              .append(type)
+              .append(" getField")
+              .append(f)
+              .append("() {\n    return null;\n  }\n");
+            break;
+          default:
+            sb.append("  ")
+              .append(type)
+              .append(" field")
+              .append(f)
+              .append(";\n");
+        }
+      }
+      sb.append("\n}\n");
+      sources.add(InMemoryCompiler.source(packageName + "." + className,
+                                          sb.toString()));
+    }
+    return sources;
+  }
+
+}
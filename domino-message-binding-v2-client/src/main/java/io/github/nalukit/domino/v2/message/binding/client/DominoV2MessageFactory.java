@@ -1,7 +1,12 @@
 package io.github.nalukit.domino.v2.message.binding.client;
 
+import io.github.nalukit.domino.v2.message.binding.client.handling.DominoV2MessageDriverRegistry;
+import io.github.nalukit.domino.v2.message.binding.client.internal.helper.DominoV2MessageQueue;
+import io.github.nalukit.domino.v2.message.binding.client.metrics.DriverMetrics;
+import io.github.nalukit.domino.v2.message.binding.client.presenter.IsMessagePresenter;
 import io.github.nalukit.domino.v2.message.binding.client.presenter.IsProgressBarPresenter;
 import io.github.nalukit.domino.v2.message.binding.client.presenter.PresenterRegistration;
+import io.github.nalukit.domino.v2.message.binding.shared.catalog.DominoV2MessageCatalog;
 import io.github.nalukit.domino.v2.message.binding.shared.model.IsDominoV2Message;
 
 import java.util.ArrayList;
@@ -18,6 +23,9 @@ public class DominoV2MessageFactory {
 
   //  private final static boolean WRITE_LOG = true;
 
+  /* default capacity of the queue of messages not displayed on a field */
+  public final static int DEFAULT_QUEUE_CAPACITY = 100;
+
   /* instance of the MessageFactory */
   private static DominoV2MessageFactory instance;
 
@@ -44,6 +52,22 @@ public class DominoV2MessageFactory {
   private PresenterRegistration  progressBarPresenterRegistration;
   private boolean                progressBarActive;
 
+  /* presenters of messages not displayed on a field (indexed by the ordinal of the target) */
+  private final IsMessagePresenter[] messagePresenters;
+
+  /* messages waiting for a presenter */
+  private DominoV2MessageQueue messageQueue;
+  private boolean              dispatching;
+
+  /* metrics hook - no-op by default */
+  private DriverMetrics metrics;
+
+  /* catalog of message templates, null -> texts are sent by the server */
+  private DominoV2MessageCatalog messageCatalog;
+
+  /* drivers sharing one index of field ids */
+  private DominoV2MessageDriverRegistry driverRegistry;
+
   //  //  /* ProgressBar  */
   //  //  private TechnicalErrorMessagePresenter technicalErrorMessagePresenter;
   //  //
@@ -66,6 +90,9 @@ public class DominoV2MessageFactory {
   private DominoV2MessageFactory() {
     super();
     this.messageList = new ArrayList<>();
+    this.messagePresenters = new IsMessagePresenter[IsDominoV2Message.Target.values().length];
+    this.messageQueue = new DominoV2MessageQueue(DominoV2MessageFactory.DEFAULT_QUEUE_CAPACITY);
+    this.metrics = DriverMetrics.NO_OP;
     //    //    this.messageListSingular = new ArrayList<>();
     //    //    this.presenterWidgets = new HashMap<>();
     //    //    this.permanentMessagePresenterList = new ArrayList<>();
@@ -213,6 +240,160 @@ public class DominoV2MessageFactory {
     return progressBarPresenterRegistration;
   }
 
+  /**
+   * Register a presenter for messages of the given target.
+   * <p>
+   * Messages routed to the factory before a presenter was registered
+   * are kept in a bounded queue and will be shown once the presenter
+   * gets registered. A presenter registered for the target FIELD receives
+   * field messages with error sources no driver has bound.
+   *
+   * @param target    target of the messages
+   * @param presenter the presenter
+   * @return the registration of the presenter
+   */
+  public PresenterRegistration register(IsDominoV2Message.Target target,
+                                        IsMessagePresenter presenter) {
+    int index = target.ordinal();
+    this.messagePresenters[index] = presenter;
+    this.dispatch();
+    return new PresenterRegistration() {
+      @Override
+      public void remove() {
+        if (DominoV2MessageFactory.this.messagePresenters[index] == presenter) {
+          DominoV2MessageFactory.this.messagePresenters[index] = null;
+        }
+      }
+    };
+  }
+
+  /**
+   * Sets the capacity of the queue holding messages that are waiting
+   * for a presenter. In case the queue is full, the oldest message gets dropped.
+   *
+   * @param capacity capacity of the queue
+   */
+  public void setQueueCapacity(int capacity) {
+    DominoV2MessageQueue queue = new DominoV2MessageQueue(capacity);
+    while (!this.messageQueue.isEmpty()) {
+      queue.offer(this.messageQueue.poll());
+    }
+    this.messageQueue = queue;
+  }
+
+  /**
+   * Routes a message that is not displayed on a field to the presenter
+   * registered for the target of the message. Messages without target
+   * are handled as FACTORY messages.
+   *
+   * @param message the message
+   */
+  public void route(IsDominoV2Message message) {
+    this.metrics.messageConsumed(message.getTarget());
+    this.offer(message);
+    this.dispatch();
+  }
+
+  /**
+   * Adds a message to the queue without dispatching it.
+   * Call <code>dispatch()</code> once all messages are added.
+   *
+   * @param message the message
+   */
+  public void offer(IsDominoV2Message message) {
+    if (!this.messageQueue.offer(message)) {
+      this.metrics.messageDropped();
+    }
+  }
+
+  /**
+   * Sets the metrics hook of the MessageFactory. Drivers created
+   * afterwards use the same metrics.
+   *
+   * @param metrics the metrics, null -> no-op
+   */
+  public void setMetrics(DriverMetrics metrics) {
+    this.metrics = Objects.isNull(metrics) ? DriverMetrics.NO_OP : metrics;
+  }
+
+  /**
+   * Returns the metrics hook of the MessageFactory
+   *
+   * @return the metrics (never null)
+   */
+  public DriverMetrics getMetrics() {
+    return this.metrics;
+  }
+
+  /**
+   * Sets the catalog of message templates. Drivers created afterwards
+   * use the same catalog. Presenters can use the catalog to render the
+   * text of a message.
+   *
+   * @param messageCatalog the catalog or null
+   */
+  public void setMessageCatalog(DominoV2MessageCatalog messageCatalog) {
+    this.messageCatalog = messageCatalog;
+  }
+
+  /**
+   * Returns the catalog of message templates
+   *
+   * @return the catalog or null
+   */
+  public DominoV2MessageCatalog getMessageCatalog() {
+    return this.messageCatalog;
+  }
+
+  /**
+   * Returns the registry of the drivers. Registered drivers consume
+   * a message list in one pass.
+   *
+   * @return the registry
+   */
+  public DominoV2MessageDriverRegistry getDriverRegistry() {
+    if (Objects.isNull(this.driverRegistry)) {
+      this.driverRegistry = new DominoV2MessageDriverRegistry();
+    }
+    return this.driverRegistry;
+  }
+
+  /**
+   * Returns the text of a message: rendered using the catalog,
+   * in case a template exists, otherwise the text of the message.
+   *
+   * @param message the message
+   * @return the text
+   */
+  public String getText(IsDominoV2Message message) {
+    return Objects.isNull(this.messageCatalog) ? message.getText() : this.messageCatalog.getText(message);
+  }
+
+  /**
+   * Hands the queued messages to the registered presenters. Messages
+   * without a registered presenter stay inside the queue.
+   */
+  public void dispatch() {
+    if (this.dispatching) {
+      return;
+    }
+    this.dispatching = true;
+    try {
+      for (int i = this.messageQueue.size(); i > 0; i--) {
+        IsDominoV2Message message = this.messageQueue.poll();
+        IsDominoV2Message.Target target = Objects.isNull(message.getTarget()) ? IsDominoV2Message.Target.FACTORY : message.getTarget();
+        IsMessagePresenter presenter = this.messagePresenters[target.ordinal()];
+        if (Objects.isNull(presenter)) {
+          this.messageQueue.offer(message);
+        } else {
+          presenter.show(message);
+        }
+      }
+    } finally {
+      this.dispatching = false;
+    }
+  }
+
   //  //  /**
   //  //   * <p>Registriert ein Widget mit {@link HasGsMessagePresenterSupport}
   //  //   * an der MessageFactory.</p>
@@ -1,16 +1,31 @@
 package io.github.nalukit.domino.v2.message.binding.client.handling;
 
+import elemental2.dom.Element;
+import elemental2.dom.Event;
+import elemental2.dom.EventListener;
+import elemental2.dom.Node;
+import io.github.nalukit.domino.v2.message.binding.client.DominoV2MessageFactory;
+import io.github.nalukit.domino.v2.message.binding.client.internal.helper.DominoV2ErrorSourcePattern;
 import io.github.nalukit.domino.v2.message.binding.client.internal.helper.DominoV2MessageElementWrapper;
+import io.github.nalukit.domino.v2.message.binding.client.metrics.DriverMetrics;
+import io.github.nalukit.domino.v2.message.binding.shared.catalog.DominoV2MessageCatalog;
 import io.github.nalukit.domino.v2.message.binding.shared.model.IsDominoV2Message;
+import jsinterop.base.Js;
 import org.dominokit.domino.ui.events.EventType;
-import org.dominokit.domino.ui.forms.InputFormField;
-import org.dominokit.domino.ui.forms.suggest.AbstractSelect;
+import org.dominokit.domino.ui.forms.AbstractFormElement;
+import org.dominokit.domino.ui.forms.HasInputElement;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
 
 /**
  * Abstract class of the message driver
@@ -22,68 +37,340 @@ import java.util.Objects;
 public abstract class AbstractDominoV2MessageDriver<P extends IsDominoV2MessageProvider>
     implements IsDominoV2MessageDriver<P> {
 
+  private final static DominoV2MessageElementWrapper[] NO_WRAPPERS = new DominoV2MessageElementWrapper[0];
+
+  protected final static String FOCUS_OUT = "focusout";
+
+  /* number of messages read from an iterator before they are displayed */
+  private final static int STREAM_CHUNK_SIZE = 100;
+
   protected boolean clearOnBlur;
 
+  /* wrappers of the fields known at compile time, indexed by ordinal - created on first use, null -> not yet created */
+  protected DominoV2MessageElementWrapper[] boundMessageElementWrappers;
+
+  /* binding metadata of the provider class (static table of the generated driver, shared by all instances) */
+  private DominoV2MessageDriverMetadata metadata;
+
+  /* blur listeners of the fields known at compile time, indexed by ordinal */
+  private EventListener[] boundBlurEventListeners;
+
+  /* wrappers of the fields added at runtime - empty (immutable) until a field is added */
   protected Map<String, DominoV2MessageElementWrapper> messageElementWrappers;
 
+  /* optional scheduler used to coalesce DOM writes, null -> write immediately */
+  private DominoV2MessageRenderScheduler renderScheduler;
+
+  /* wrappers currently marked as invalid by this driver */
+  private final List<DominoV2MessageElementWrapper> invalidMessageElementWrappers;
+
+  /* true, in case the blur listeners are added to the fields */
+  private boolean registered;
+
+  /* root element and listener in case the driver is registered using a delegated focusout listener */
+  private Element       delegatedRootElement;
+  private EventListener delegatedFocusOutListener;
+
+  /* root elements of the form elements -> wrapper (only used in case of a delegated focusout listener) */
+  private Map<Node, DominoV2MessageElementWrapper> formElementIndex;
+
+  /* wrappers touched by the running consume, replace or session */
+  private final List<DominoV2MessageElementWrapper> pendingMessageElementWrappers;
+
+  /* wrappers with messages collected since the last update */
+  private final List<DominoV2MessageElementWrapper> changedMessageElementWrappers;
+
+  /* true, while a streaming session is running */
+  private boolean streaming;
+
+  /* order of the messages of a field, null -> order of arrival */
+  private Comparator<IsDominoV2Message> messageOrder;
+
+  /* maximum number of messages displayed per field, 0 -> no limit */
+  private int maxMessagesPerField;
+
+  /* creates the text displayed instead of the messages exceeding the limit */
+  private IntFunction<String> moreMessagesText;
+
+  /* metrics hook - no-op by default */
+  private DriverMetrics metrics;
+
+  /* renders the texts of messages having a template, null -> use the text of the message */
+  private DominoV2MessageCatalog messageCatalog;
+
+  /* registry the driver is registered with, null -> not registered */
+  private DominoV2MessageDriverRegistry driverRegistry;
+
+  /* path prefix the driver is registered under, null -> not registered */
+  private String pathPrefix;
+
+  /* error source pattern -> matching wrappers, cleared in case the fields change or the cache is full */
+  private Map<String, DominoV2MessageElementWrapper[]> patternMatches;
+
+  /* wrappers of the fields known at compile time the pattern matches were computed for */
+  private DominoV2MessageElementWrapper[] patternMatchesBoundWrappers;
+
   public AbstractDominoV2MessageDriver() {
-    this.messageElementWrappers = new HashMap<>();
+    this.boundMessageElementWrappers = AbstractDominoV2MessageDriver.NO_WRAPPERS;
+    this.metadata = DominoV2MessageDriverMetadata.EMPTY;
+    // maps are created on first use: instances of list rows mostly need none of them
+    this.messageElementWrappers = Collections.emptyMap();
+    this.invalidMessageElementWrappers = new ArrayList<>();
+    this.pendingMessageElementWrappers = new ArrayList<>();
+    this.changedMessageElementWrappers = new ArrayList<>();
+    this.formElementIndex = Collections.emptyMap();
+    this.patternMatches = Collections.emptyMap();
     this.clearOnBlur = true;
+    this.moreMessagesText = count -> "+" + count + " more";
+    this.metrics = DominoV2MessageFactory.get()
+                                         .getMetrics();
+    this.messageCatalog = DominoV2MessageFactory.get()
+                                                .getMessageCatalog();
+  }
+
+  /**
+   * Adds a form element at runtime.
+   * <p>
+   * Fields known at compile time are bound by the generated driver.
+   * Use this method for elements that are created dynamically.
+   * A field id bound at compile time takes precedence over a
+   * field id added at runtime. Must be called before <code>register()</code>.
+   *
+   * @param fieldId     id used as error source
+   * @param formElement form element that displays the message
+   */
+  public void addMessageElement(String fieldId,
+                                AbstractFormElement<?, ?> formElement) {
+    if (this.messageElementWrappers.isEmpty()) {
+      this.messageElementWrappers = new HashMap<>();
+    }
+    this.messageElementWrappers.put(fieldId,
+                                    new DominoV2MessageElementWrapper(formElement,
+                                                                      fieldId));
+    this.patternMatches = Collections.emptyMap();
+    if (!Objects.isNull(this.driverRegistry)) {
+      this.driverRegistry.index(this,
+                                fieldId);
+    }
+  }
+
+  /**
+   * Sets the scheduler used to coalesce the DOM writes of this driver.
+   * <p>
+   * In case a scheduler is set, fields are updated once per animation
+   * frame. Set to null to write to the DOM immediately (default).
+   *
+   * @param renderScheduler the scheduler or null
+   */
+  public void setRenderScheduler(DominoV2MessageRenderScheduler renderScheduler) {
+    this.renderScheduler = renderScheduler;
+  }
+
+  /**
+   * Sets the metrics hook of this driver.
+   * <p>
+   * By default, the driver uses the metrics set on the MessageFactory
+   * at the time the driver was created.
+   *
+   * @param metrics the metrics, null -> no-op
+   */
+  public void setMetrics(DriverMetrics metrics) {
+    this.metrics = Objects.isNull(metrics) ? DriverMetrics.NO_OP : metrics;
+  }
+
+  /**
+   * Sets the catalog used to render the texts of the messages.
+   * <p>
+   * Texts are rendered only for messages that are displayed. By default,
+   * the driver uses the catalog set on the MessageFactory at the time the
+   * driver was created.
+   *
+   * @param messageCatalog the catalog or null to use the text of the messages
+   */
+  public void setMessageCatalog(DominoV2MessageCatalog messageCatalog) {
+    this.messageCatalog = messageCatalog;
+  }
+
+  /**
+   * Sets the order of the messages displayed on a field.
+   * <p>
+   * In case several messages target the same field, they are displayed in
+   * this order (f.e. by severity). The sort is stable: messages that compare
+   * equal keep their order of arrival. Set to null to use the order of
+   * arrival (default).
+   *
+   * @param messageOrder the order or null
+   */
+  public void setMessageOrder(Comparator<IsDominoV2Message> messageOrder) {
+    this.messageOrder = messageOrder;
+  }
+
+  /**
+   * Sets the maximum number of messages displayed per field.
+   * <p>
+   * In case a field has more messages, the remaining ones are summarized
+   * in one additional line (see {@link #setMoreMessagesText(IntFunction)}).
+   *
+   * @param maxMessagesPerField maximum number of messages, 0 -> no limit (default)
+   */
+  public void setMaxMessagesPerField(int maxMessagesPerField) {
+    this.maxMessagesPerField = maxMessagesPerField;
+  }
+
+  /**
+   * Sets the function creating the summary line in case a field has
+   * more messages than allowed. Default: "+N more"
+   *
+   * @param moreMessagesText gets the number of messages not displayed and returns the text
+   */
+  public void setMoreMessagesText(IntFunction<String> moreMessagesText) {
+    this.moreMessagesText = moreMessagesText;
   }
 
   @Override
   public void deregister() {
-    this.messageElementWrappers.values()
-                               .forEach(e -> {
-                                 if (e.getFormElement() instanceof InputFormField) {
-                                   ((InputFormField<?, ?, ?>) e.getFormElement())
-                                       .getInputElement()
-                                       .removeEventListener(EventType.blur,
-                                                            e.getBlurEventListener());
-                                   e.setBlurEventListener(null);
-                                 } else if (e.getFormElement() instanceof AbstractSelect) {
-                                   ((AbstractSelect<?, ?, ?, ?, ?>) e.getFormElement())
-                                       .getInputElement()
-                                       .removeEventListener(EventType.blur,
-                                                            e.getBlurEventListener());
-                                   e.setBlurEventListener(null);
-                                 }
-                                });
+    if (!Objects.isNull(this.delegatedRootElement)) {
+      this.delegatedRootElement.removeEventListener(AbstractDominoV2MessageDriver.FOCUS_OUT,
+                                                    this.delegatedFocusOutListener);
+      this.delegatedRootElement = null;
+      this.delegatedFocusOutListener = null;
+      this.formElementIndex = Collections.emptyMap();
+      return;
+    }
+    if (!this.registered) {
+      return;
+    }
+    this.registered = false;
+    this.deregisterBoundMessageElements();
+    for (DominoV2MessageElementWrapper wrapper : this.messageElementWrappers.values()) {
+      this.removeBlurEventListener(wrapper);
+    }
   }
 
   @Override
   public void clearInvalid() {
-    this.messageElementWrappers.values()
-                               .forEach(w -> w.getFormElement()
-                                              .clearInvalid());
+    // applyValid removes the last element - no need to copy the list
+    for (int i = this.invalidMessageElementWrappers.size() - 1; i >= 0; i--) {
+      this.applyValid(this.invalidMessageElementWrappers.get(i));
+    }
+  }
+
+  @Override
+  public void clearInvalid(Collection<String> fieldIds) {
+    for (String fieldId : fieldIds) {
+      DominoV2MessageElementWrapper wrapper = this.getMessageElementWrapper(fieldId);
+      if (!Objects.isNull(wrapper) && wrapper.isInvalid()) {
+        this.applyValid(wrapper);
+      }
+    }
+  }
+
+  @Override
+  public boolean isInvalid(String fieldId) {
+    DominoV2MessageElementWrapper wrapper = this.getMessageElementWrapper(fieldId);
+    return !Objects.isNull(wrapper) && wrapper.isInvalid();
   }
 
   @Override
   public void consume(List<? extends IsDominoV2Message> messages) {
-    List<IsDominoV2Message> unconsumedMessages = new ArrayList<>();
-    messages.forEach(m -> {
-//      GWT.log(IsDominoMessage.Target.FIELD.toString());
-//      GWT.log(m.getTarget()
-//               .toString());
-      if (IsDominoV2Message.Target.FIELD.toString()
-                                        .equals(m.getTarget()
-                                               .toString())) {
-        m.getErrorSources()
-         .stream()
-         .map(errorSource -> this.messageElementWrappers.get(errorSource))
-         .forEach(wrapper -> {
-           if (Objects.isNull(wrapper)) {
-             unconsumedMessages.add(m);
-           }
-           wrapper.getFormElement()
-                  .invalidate(m.getText());
-         });
-      } else {
-        unconsumedMessages.add(m);
+    // hot path: indexed loops, no iterators, streams or lambdas
+    this.checkNoSession();
+    boolean timed = this.metrics.isTimingEnabled();
+    long start = timed ? System.nanoTime() : 0L;
+    // collect the messages of every field ...
+    boolean routed = this.collectMessages(messages);
+    // ... and update every field once
+    this.applyPendingMessages(true);
+    // messages are handed to the presenters after all fields are updated
+    if (routed) {
+      DominoV2MessageFactory.get()
+                            .dispatch();
+    }
+    if (timed) {
+      this.metrics.consumeTime(System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public void consume(List<? extends IsDominoV2Message> messages,
+                      Runnable onComplete) {
+    this.consume(messages);
+    if (Objects.isNull(this.renderScheduler)) {
+      onComplete.run();
+    } else {
+      this.renderScheduler.whenComplete(onComplete);
+    }
+  }
+
+  @Override
+  public void replace(List<? extends IsDominoV2Message> messages) {
+    this.checkNoSession();
+    boolean timed = this.metrics.isTimingEnabled();
+    long start = timed ? System.nanoTime() : 0L;
+    // collect the new state of every field ...
+    boolean routed = this.collectMessages(messages);
+    // ... remove messages no longer reported ...
+    this.clearNotPending();
+    // ... and update the fields whose messages have changed
+    this.applyPendingMessages(false);
+    if (routed) {
+      DominoV2MessageFactory.get()
+                            .dispatch();
+    }
+    if (timed) {
+      this.metrics.consumeTime(System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public void begin() {
+    this.checkNoSession();
+    this.streaming = true;
+  }
+
+  @Override
+  public void accept(List<? extends IsDominoV2Message> chunk) {
+    this.checkSession();
+    boolean timed = this.metrics.isTimingEnabled();
+    long start = timed ? System.nanoTime() : 0L;
+    // fields mentioned by an earlier chunk keep their messages until the session ends
+    boolean routed = this.collectMessages(chunk);
+    this.applyPendingMessages(false);
+    if (routed) {
+      DominoV2MessageFactory.get()
+                            .dispatch();
+    }
+    if (timed) {
+      this.metrics.consumeTime(System.nanoTime() - start);
+    }
+  }
+
+  @Override
+  public void accept(Iterator<? extends IsDominoV2Message> messages) {
+    this.checkSession();
+    List<IsDominoV2Message> chunk = new ArrayList<>(AbstractDominoV2MessageDriver.STREAM_CHUNK_SIZE);
+    while (messages.hasNext()) {
+      chunk.add(messages.next());
+      if (chunk.size() == AbstractDominoV2MessageDriver.STREAM_CHUNK_SIZE) {
+        this.accept(chunk);
+        chunk.clear();
       }
+    }
+    if (!chunk.isEmpty()) {
+      this.accept(chunk);
+    }
+  }
 
-    });
-    //    // TODO handle unconsumed messages
+  @Override
+  public void end() {
+    this.checkSession();
+    this.streaming = false;
+    this.clearNotPending();
+    for (int i = 0; i < this.pendingMessageElementWrappers.size(); i++) {
+      this.pendingMessageElementWrappers.get(i)
+                                        .resetPending();
+    }
+    this.pendingMessageElementWrappers.clear();
   }
 
   @Override
@@ -94,32 +381,571 @@ public abstract class AbstractDominoV2MessageDriver<P extends IsDominoV2MessageP
 
   @Override
   public void destroy() {
-    this.messageElementWrappers.clear();
+    if (!Objects.isNull(this.driverRegistry)) {
+      this.driverRegistry.remove(this);
+    }
+    this.boundMessageElementWrappers = AbstractDominoV2MessageDriver.NO_WRAPPERS;
+    this.metadata = DominoV2MessageDriverMetadata.EMPTY;
+    this.boundBlurEventListeners = null;
+    this.messageElementWrappers = Collections.emptyMap();
+    this.invalidMessageElementWrappers.clear();
+    this.pendingMessageElementWrappers.clear();
+    this.changedMessageElementWrappers.clear();
+    this.patternMatches = Collections.emptyMap();
+    this.streaming = false;
   }
 
   @Override
   public void register() {
-    this.messageElementWrappers.values()
-                               .forEach(w -> {
-                                 if (clearOnBlur) {
-                                   elemental2.dom.EventListener eventlistener = evt -> w.getFormElement()
-                                                                                      .clearInvalid();
-                                   if (w.getFormElement() instanceof InputFormField) {
-                                     ((InputFormField<?, ?, ?>) w.getFormElement())
-                                      .getInputElement()
-                                      .addEventListener(EventType.blur,
-                                                        eventlistener);
-                                   } else if (w.getFormElement() instanceof AbstractSelect) {
-                                     ((AbstractSelect<?, ?, ?, ?, ?>) w.getFormElement())
-                                         .getInputElement()
-                                         .addEventListener(EventType.blur,
-                                                           eventlistener);
-                                   }
-                                   w.setBlurEventListener(eventlistener);
-                                 }
-                               });
+    if (this.registered || !Objects.isNull(this.delegatedRootElement)) {
+      return;
+    }
+    this.registered = true;
+    this.registerBoundMessageElements();
+    if (this.clearOnBlur) {
+      for (DominoV2MessageElementWrapper wrapper : this.messageElementWrappers.values()) {
+        this.addBlurEventListener(wrapper);
+      }
+    }
+  }
 
+  @Override
+  public void register(Element rootElement) {
+    if (this.registered || !this.clearOnBlur || this.delegatedRootElement == rootElement) {
+      return;
+    }
+    if (!Objects.isNull(this.delegatedRootElement)) {
+      // registered on another root element: remove that listener first
+      this.deregister();
+    }
+    // the index needs the elements - all wrappers get created
+    for (int i = 0; i < this.boundMessageElementWrappers.length; i++) {
+      this.getBoundMessageElementWrapper(i);
+    }
+    this.formElementIndex = new HashMap<>();
+    this.forEachMessageElementWrapper(w -> this.formElementIndex.put(w.getFormElement()
+                                                                      .element(),
+                                                                     w));
+    this.delegatedRootElement = rootElement;
+    this.delegatedFocusOutListener = this::onFocusOut;
+    this.delegatedRootElement.addEventListener(AbstractDominoV2MessageDriver.FOCUS_OUT,
+                                               this.delegatedFocusOutListener);
+  }
+
+  /**
+   * Returns the wrapper of the element bound to the given field id.
+   * <p>
+   * The generated driver overrides this method with a switch over all
+   * field ids known at compile time and delegates to this implementation
+   * only for unknown ids. This implementation looks up the fields
+   * added at runtime.
+   *
+   * @param fieldId the field id (error source)
+   * @return the wrapper or null, if there is no element bound to the field id
+   */
+  protected DominoV2MessageElementWrapper getMessageElementWrapper(String fieldId) {
+    return this.messageElementWrappers.get(fieldId);
+  }
+
+  /**
+   * Sets the binding metadata of the provider class. Called by the generated
+   * driver during <code>initialize</code>. The wrappers of the fields are
+   * created on first use (see {@link #getBoundMessageElementWrapper(int)}),
+   * so the fields are not read during <code>initialize</code>.
+   *
+   * @param metadata metadata of the provider class (static table of the generated driver)
+   */
+  protected void initializeBoundMessageElements(DominoV2MessageDriverMetadata metadata) {
+    this.metadata = metadata;
+    this.clearOnBlur = metadata.isClearOnBlur();
+    this.boundMessageElementWrappers = new DominoV2MessageElementWrapper[metadata.getFieldCount()];
+    this.boundBlurEventListeners = null;
+  }
+
+  /**
+   * Returns the binding metadata of the provider class: field ids, ordinals
+   * and kinds of the fields known at compile time. The metadata is shared
+   * by all drivers of the provider class.
+   *
+   * @return the metadata
+   */
+  public DominoV2MessageDriverMetadata getMetadata() {
+    return this.metadata;
+  }
+
+  /**
+   * Returns the form element of a field known at compile time.
+   * <p>
+   * The generated driver overrides this method with a switch reading
+   * the field, getter or supplier of the provider.
+   *
+   * @param index ordinal of the field
+   * @return the form element
+   */
+  protected AbstractFormElement<?, ?> getBoundFormElement(int index) {
+    throw new IllegalStateException("no form element bound to index " + index);
+  }
 
+  /**
+   * Returns the wrapper of a field known at compile time. The wrapper
+   * gets created the first time it is needed.
+   *
+   * @param index ordinal of the field
+   * @return the wrapper
+   */
+  protected DominoV2MessageElementWrapper getBoundMessageElementWrapper(int index) {
+    DominoV2MessageElementWrapper wrapper = this.boundMessageElementWrappers[index];
+    if (Objects.isNull(wrapper)) {
+      wrapper = new DominoV2MessageElementWrapper(this.getBoundFormElement(index),
+                                                  this.metadata.getFieldId(index));
+      this.boundMessageElementWrappers[index] = wrapper;
+    }
+    return wrapper;
+  }
+
+  /**
+   * Creates the listener that removes the message in case the field known
+   * at compile time blurs. The wrapper of the field is never created by
+   * the listener: a field without wrapper did not get a message from this
+   * driver, so only the form element is cleared.
+   *
+   * @param index ordinal of the field
+   * @return the listener
+   */
+  protected EventListener createBlurEventListener(int index) {
+    if (Objects.isNull(this.boundBlurEventListeners)) {
+      this.boundBlurEventListeners = new EventListener[this.boundMessageElementWrappers.length];
+    }
+    EventListener eventListener = evt -> this.onBlur(index);
+    this.boundBlurEventListeners[index] = eventListener;
+    return eventListener;
+  }
+
+  /**
+   * Returns the blur listener of a field known at compile time
+   * and forgets it (to remove it from the field).
+   *
+   * @param index ordinal of the field
+   * @return the listener or null
+   */
+  protected EventListener releaseBlurEventListener(int index) {
+    if (Objects.isNull(this.boundBlurEventListeners)) {
+      return null;
+    }
+    EventListener eventListener = this.boundBlurEventListeners[index];
+    this.boundBlurEventListeners[index] = null;
+    return eventListener;
+  }
+
+  /**
+   * Adds the blur listeners to the fields known at compile time.
+   * <p>
+   * The generated driver overrides this method with code specialized
+   * for the type of every field (no runtime type checks). In case
+   * <code>clearOnBlur</code> is false, the generated method is empty.
+   */
+  protected void registerBoundMessageElements() {
+    if (this.clearOnBlur) {
+      for (int i = 0; i < this.boundMessageElementWrappers.length; i++) {
+        this.addBlurEventListener(this.getBoundMessageElementWrapper(i));
+      }
+    }
+  }
+
+  /**
+   * Removes the blur listeners from the fields known at compile time.
+   * <p>
+   * The generated driver overrides this method with code specialized
+   * for the type of every field.
+   */
+  protected void deregisterBoundMessageElements() {
+    for (DominoV2MessageElementWrapper wrapper : this.boundMessageElementWrappers) {
+      if (!Objects.isNull(wrapper)) {
+        this.removeBlurEventListener(wrapper);
+      }
+    }
+  }
+
+  /**
+   * Creates the listener that removes the message in case the field blurs
+   * and stores it inside the wrapper.
+   *
+   * @param wrapper the field
+   * @return the listener
+   */
+  protected EventListener createBlurEventListener(DominoV2MessageElementWrapper wrapper) {
+    EventListener eventListener = evt -> this.onBlur(wrapper);
+    wrapper.setBlurEventListener(eventListener);
+    return eventListener;
+  }
+
+  /**
+   * Marks the field as invalid - immediately or using the render scheduler.
+   * The texts of the field have to be set before.
+   *
+   * @param wrapper the field
+   */
+  protected void applyInvalid(DominoV2MessageElementWrapper wrapper) {
+    if (wrapper.getInvalidIndex() == -1) {
+      wrapper.setInvalidIndex(this.invalidMessageElementWrappers.size());
+      this.invalidMessageElementWrappers.add(wrapper);
+    }
+    this.metrics.fieldInvalidated();
+    if (Objects.isNull(this.renderScheduler)) {
+      wrapper.render();
+    } else {
+      this.renderScheduler.schedule(wrapper);
+    }
+  }
+
+  /**
+   * Removes the message from the field - immediately or using the render scheduler.
+   *
+   * @param wrapper the field
+   */
+  protected void applyValid(DominoV2MessageElementWrapper wrapper) {
+    int index = wrapper.getInvalidIndex();
+    if (index != -1) {
+      // swap with the last element to remove in constant time
+      int lastIndex = this.invalidMessageElementWrappers.size() - 1;
+      DominoV2MessageElementWrapper last = this.invalidMessageElementWrappers.remove(lastIndex);
+      if (index != lastIndex) {
+        this.invalidMessageElementWrappers.set(index,
+                                               last);
+        last.setInvalidIndex(index);
+      }
+      wrapper.setInvalidIndex(-1);
+    }
+    this.metrics.fieldCleared();
+    if (Objects.isNull(this.renderScheduler)) {
+      wrapper.clearInvalid();
+    } else {
+      wrapper.setText(null);
+      this.renderScheduler.schedule(wrapper);
+    }
+  }
+
+  /**
+   * Hands a message, that is not displayed on a field of this driver,
+   * to the MessageFactory. This covers messages with target DIALOG or FACTORY
+   * and field messages with error sources not bound by this driver.
+   * <p>
+   * The message is only queued. The driver dispatches the queue once
+   * the whole message list is processed.
+   *
+   * @param message the message
+   */
+  protected void offerUnconsumed(IsDominoV2Message message) {
+    DominoV2MessageFactory.get()
+                          .offer(message);
+  }
+
+  /**
+   * Returns the registry the driver is registered with
+   *
+   * @return the registry or null
+   */
+  DominoV2MessageDriverRegistry getDriverRegistry() {
+    return this.driverRegistry;
+  }
+
+  void setDriverRegistry(DominoV2MessageDriverRegistry driverRegistry) {
+    this.driverRegistry = driverRegistry;
+  }
+
+  /**
+   * Returns the path prefix the driver is registered under
+   *
+   * @return the prefix ("" -&gt; no prefix) or null, in case the driver is not registered
+   */
+  String getPathPrefix() {
+    return this.pathPrefix;
+  }
+
+  void setPathPrefix(String pathPrefix) {
+    this.pathPrefix = pathPrefix;
+  }
+
+  @Override
+  public List<String> getFieldIds() {
+    List<String> fieldIds = new ArrayList<>(this.boundMessageElementWrappers.length + this.messageElementWrappers.size());
+    for (int i = 0; i < this.boundMessageElementWrappers.length; i++) {
+      fieldIds.add(this.getBoundFieldId(i));
+    }
+    fieldIds.addAll(this.messageElementWrappers.keySet());
+    return fieldIds;
+  }
+
+  /**
+   * Collects a field message for the field bound to the error source.
+   * In case the error source is a pattern (f.e. <code>items[*].price</code>),
+   * the message is collected for every matching field.
+   * Call <code>applyPendingMessages</code> once all messages are collected.
+   *
+   * @param message     the message
+   * @param errorSource the error source
+   * @return false, in case no field is bound to the error source
+   */
+  boolean collectMessage(IsDominoV2Message message,
+                         String errorSource) {
+    DominoV2MessageElementWrapper wrapper = this.getMessageElementWrapper(errorSource);
+    if (!Objects.isNull(wrapper)) {
+      this.collectMessage(message,
+                          wrapper);
+      return true;
+    }
+    // patterns are only checked for error sources not bound to a field
+    if (Objects.isNull(errorSource) || !DominoV2ErrorSourcePattern.isPattern(errorSource)) {
+      return false;
+    }
+    DominoV2MessageElementWrapper[] wrappers = this.getPatternMatches(errorSource);
+    for (DominoV2MessageElementWrapper matchingWrapper : wrappers) {
+      this.collectMessage(message,
+                          matchingWrapper);
+    }
+    return wrappers.length > 0;
+  }
+
+  private void collectMessage(IsDominoV2Message message,
+                              DominoV2MessageElementWrapper wrapper) {
+    if (!wrapper.isPending()) {
+      this.pendingMessageElementWrappers.add(wrapper);
+    }
+    if (wrapper.addPendingMessage(message) && !wrapper.isChanged()) {
+      wrapper.setChanged(true);
+      this.changedMessageElementWrappers.add(wrapper);
+    }
+  }
+
+  /**
+   * Returns the wrappers of the fields matching the pattern. The pattern is
+   * evaluated once against all fields, the result is cached.
+   *
+   * @param errorSource the pattern
+   * @return the matching wrappers
+   */
+  private DominoV2MessageElementWrapper[] getPatternMatches(String errorSource) {
+    if (this.patternMatchesBoundWrappers != this.boundMessageElementWrappers) {
+      // initialized again
+      this.patternMatches = Collections.emptyMap();
+      this.patternMatchesBoundWrappers = this.boundMessageElementWrappers;
+    }
+    DominoV2MessageElementWrapper[] wrappers = this.patternMatches.get(errorSource);
+    if (Objects.isNull(wrappers)) {
+      DominoV2ErrorSourcePattern pattern = DominoV2ErrorSourcePattern.compile(errorSource);
+      List<DominoV2MessageElementWrapper> matches = new ArrayList<>();
+      // wrappers are only created for matching fields
+      for (int i = 0; i < this.boundMessageElementWrappers.length; i++) {
+        if (pattern.matches(this.getBoundFieldId(i))) {
+          matches.add(this.getBoundMessageElementWrapper(i));
+        }
+      }
+      for (DominoV2MessageElementWrapper wrapper : this.messageElementWrappers.values()) {
+        if (pattern.matches(wrapper.getFieldId())) {
+          matches.add(wrapper);
+        }
+      }
+      wrappers = matches.toArray(AbstractDominoV2MessageDriver.NO_WRAPPERS);
+      if (this.patternMatches.isEmpty()) {
+        this.patternMatches = new HashMap<>();
+      } else if (this.patternMatches.size() >= DominoV2ErrorSourcePattern.CACHE_SIZE) {
+        this.patternMatches.clear();
+      }
+      this.patternMatches.put(errorSource,
+                              wrappers);
+    }
+    return wrappers;
+  }
+
+  /**
+   * Collects the field messages per field. Duplicates are dropped.
+   * Messages not displayed on a field are handed to the MessageFactory.
+   *
+   * @param messages the messages
+   * @return true, in case messages were handed to the MessageFactory
+   */
+  private boolean collectMessages(List<? extends IsDominoV2Message> messages) {
+    boolean routed = false;
+    for (int i = 0; i < messages.size(); i++) {
+      IsDominoV2Message m = messages.get(i);
+      this.metrics.messageConsumed(m.getTarget());
+      if (IsDominoV2Message.Target.FIELD == m.getTarget()) {
+        boolean unmatched = false;
+        List<String> errorSources = m.getErrorSources();
+        for (int j = 0; j < errorSources.size(); j++) {
+          if (!this.collectMessage(m,
+                                   errorSources.get(j))) {
+            this.metrics.errorSourceUnmatched(errorSources.get(j));
+            unmatched = true;
+          }
+        }
+        if (unmatched) {
+          this.offerUnconsumed(m);
+          routed = true;
+        }
+      } else {
+        this.offerUnconsumed(m);
+        routed = true;
+      }
+    }
+    return routed;
+  }
+
+  /**
+   * Updates every field with messages collected since the last update - one update per field.
+   * Outside a streaming session, the collected messages are reset afterwards.
+   *
+   * @param force false -> fields already displaying the same texts are not touched
+   */
+  void applyPendingMessages(boolean force) {
+    for (int i = 0; i < this.changedMessageElementWrappers.size(); i++) {
+      DominoV2MessageElementWrapper wrapper = this.changedMessageElementWrappers.get(i);
+      List<IsDominoV2Message> pendingMessages = wrapper.getPendingMessages();
+      if (!Objects.isNull(this.messageOrder) && pendingMessages.size() > 1) {
+        pendingMessages.sort(this.messageOrder);
+      }
+      int size = pendingMessages.size();
+      int limit = this.maxMessagesPerField > 0 && size > this.maxMessagesPerField ? this.maxMessagesPerField : size;
+      List<String> texts = wrapper.getPendingTexts();
+      texts.clear();
+      // only the messages displayed are rendered
+      for (int j = 0; j < limit; j++) {
+        texts.add(this.getText(pendingMessages.get(j)));
+      }
+      if (limit < size) {
+        texts.add(this.moreMessagesText.apply(size - limit));
+      }
+      if (wrapper.applyPendingTexts() || force) {
+        this.applyInvalid(wrapper);
+      }
+      wrapper.setChanged(false);
+    }
+    this.changedMessageElementWrappers.clear();
+    if (!this.streaming) {
+      for (int i = 0; i < this.pendingMessageElementWrappers.size(); i++) {
+        this.pendingMessageElementWrappers.get(i)
+                                          .resetPending();
+      }
+      this.pendingMessageElementWrappers.clear();
+    }
+  }
+
+  private String getText(IsDominoV2Message message) {
+    return Objects.isNull(this.messageCatalog) ? message.getText() : this.messageCatalog.getText(message);
+  }
+
+  /**
+   * Clears the fields that are marked as invalid and have no collected messages
+   */
+  void clearNotPending() {
+    // applyValid moves the last element to position i, which has already been visited
+    for (int i = this.invalidMessageElementWrappers.size() - 1; i >= 0; i--) {
+      DominoV2MessageElementWrapper wrapper = this.invalidMessageElementWrappers.get(i);
+      if (!wrapper.isPending()) {
+        this.applyValid(wrapper);
+      }
+    }
+  }
+
+  private void checkSession() {
+    if (!this.streaming) {
+      throw new IllegalStateException("no session running - call begin() first");
+    }
+  }
+
+  void checkNoSession() {
+    if (this.streaming) {
+      throw new IllegalStateException("session running - call end() first");
+    }
+  }
+
+  private void addBlurEventListener(DominoV2MessageElementWrapper wrapper) {
+    EventListener eventListener = this.createBlurEventListener(wrapper);
+    if (wrapper.getFormElement() instanceof HasInputElement) {
+      ((HasInputElement<?, ?>) wrapper.getFormElement())
+          .getInputElement()
+          .addEventListener(EventType.blur,
+                            eventListener);
+    } else {
+      // form elements without input element (f.e.: RadioGroup): focusout bubbles from the inner inputs
+      wrapper.getFormElement()
+             .element()
+             .addEventListener(AbstractDominoV2MessageDriver.FOCUS_OUT,
+                               eventListener);
+    }
+  }
+
+  private void removeBlurEventListener(DominoV2MessageElementWrapper wrapper) {
+    if (Objects.isNull(wrapper.getBlurEventListener())) {
+      return;
+    }
+    if (wrapper.getFormElement() instanceof HasInputElement) {
+      ((HasInputElement<?, ?>) wrapper.getFormElement())
+          .getInputElement()
+          .removeEventListener(EventType.blur,
+                               wrapper.getBlurEventListener());
+    } else {
+      wrapper.getFormElement()
+             .element()
+             .removeEventListener(AbstractDominoV2MessageDriver.FOCUS_OUT,
+                                  wrapper.getBlurEventListener());
+    }
+    wrapper.setBlurEventListener(null);
+  }
+
+  private void onBlur(int index) {
+    DominoV2MessageElementWrapper wrapper = this.boundMessageElementWrappers[index];
+    if (Objects.isNull(wrapper)) {
+      this.getBoundFormElement(index)
+          .clearInvalid();
+    } else {
+      this.onBlur(wrapper);
+    }
+  }
+
+  private void onBlur(DominoV2MessageElementWrapper wrapper) {
+    this.metrics.fieldClearedOnBlur();
+    this.applyValid(wrapper);
+  }
+
+  private void onFocusOut(Event event) {
+    // focusout bubbles from the input inside the form element,
+    // walk up to the root element of the form element
+    Node node = Js.uncheckedCast(event.target);
+    while (!Objects.isNull(node) && node != this.delegatedRootElement) {
+      DominoV2MessageElementWrapper wrapper = this.formElementIndex.get(node);
+      if (!Objects.isNull(wrapper)) {
+        this.onBlur(wrapper);
+        return;
+      }
+      node = node.parentNode;
+    }
+  }
+
+  /**
+   * Returns the field id of a field known at compile time, without creating the wrapper
+   *
+   * @param index ordinal of the field
+   * @return the field id
+   */
+  private String getBoundFieldId(int index) {
+    // drivers setting the wrappers directly have no field id table
+    return index < this.metadata.getFieldCount() ? this.metadata.getFieldId(index) : this.boundMessageElementWrappers[index].getFieldId();
+  }
+
+  /**
+   * Calls the consumer for every wrapper already created
+   *
+   * @param consumer the consumer
+   */
+  private void forEachMessageElementWrapper(Consumer<DominoV2MessageElementWrapper> consumer) {
+    for (DominoV2MessageElementWrapper wrapper : this.boundMessageElementWrappers) {
+      if (!Objects.isNull(wrapper)) {
+        consumer.accept(wrapper);
+      }
+    }
+    this.messageElementWrappers.values()
+                               .forEach(consumer);
   }
 
 }
@@ -0,0 +1,175 @@
+package io.github.nalukit.domino.v2.message.binding.client.handling;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binding metadata of a provider class: field ids, ordinals and kinds
+ * of the fields known at compile time and the clearOnBlur policy.
+ * <p>
+ * The generated driver creates one instance per provider class, shared by
+ * all driver instances of that class. A driver instance only keeps the state
+ * of the fields (see {@link AbstractDominoV2MessageDriver#getMetadata()}).
+ * <p>
+ * Instances are immutable.
+ */
+public final class DominoV2MessageDriverMetadata {
+
+  /* metadata of a driver without fields known at compile time */
+  public final static DominoV2MessageDriverMetadata EMPTY = new DominoV2MessageDriverMetadata(true,
+                                                                                              new String[0],
+                                                                                              new FieldKind[0]);
+
+  private final boolean clearOnBlur;
+
+  /* field ids indexed by ordinal */
+  private final String[] fieldIds;
+
+  /* field kinds indexed by ordinal */
+  private final FieldKind[] fieldKinds;
+
+  /* field id -> ordinal */
+  private final Map<String, Integer> ordinals;
+
+  private final List<String> fieldIdList;
+
+  private DominoV2MessageDriverMetadata(boolean clearOnBlur,
+                                        String[] fieldIds,
+                                        FieldKind[] fieldKinds) {
+    if (fieldIds.length != fieldKinds.length) {
+      throw new IllegalArgumentException("number of field ids (" + fieldIds.length + ") and field kinds (" + fieldKinds.length + ") differ");
+    }
+    this.clearOnBlur = clearOnBlur;
+    this.fieldIds = fieldIds;
+    this.fieldKinds = fieldKinds;
+    this.ordinals = new HashMap<>();
+    for (int i = 0; i < fieldIds.length; i++) {
+      this.ordinals.put(fieldIds[i],
+                        i);
+    }
+    this.fieldIdList = Collections.unmodifiableList(Arrays.asList(fieldIds));
+  }
+
+  /**
+   * Creates the metadata of a provider class
+   *
+   * @param clearOnBlur true, in case a message is removed once the field blurs
+   * @param fieldIds    field ids indexed by ordinal
+   * @param fieldKinds  field kinds indexed by ordinal
+   * @return the metadata
+   */
+  public static DominoV2MessageDriverMetadata of(boolean clearOnBlur,
+                                                 String[] fieldIds,
+                                                 FieldKind[] fieldKinds) {
+    return new DominoV2MessageDriverMetadata(clearOnBlur,
+                                             Arrays.copyOf(fieldIds,
+                                                           fieldIds.length),
+                                             Arrays.copyOf(fieldKinds,
+                                                           fieldKinds.length));
+  }
+
+  /**
+   * Creates the metadata of a sub class of the provider class. The ordinals
+   * of the fields of the sub class follow the ordinals of this metadata.
+   *
+   * @param clearOnBlur true, in case a message is removed once the field blurs
+   * @param fieldIds    field ids added by the sub class
+   * @param fieldKinds  field kinds added by the sub class
+   * @return the metadata of the sub class
+   */
+  public DominoV2MessageDriverMetadata extend(boolean clearOnBlur,
+                                              String[] fieldIds,
+                                              FieldKind[] fieldKinds) {
+    String[] allFieldIds = Arrays.copyOf(this.fieldIds,
+                                         this.fieldIds.length + fieldIds.length);
+    System.arraycopy(fieldIds,
+                     0,
+                     allFieldIds,
+                     this.fieldIds.length,
+                     fieldIds.length);
+    FieldKind[] allFieldKinds = Arrays.copyOf(this.fieldKinds,
+                                              this.fieldKinds.length + fieldKinds.length);
+    System.arraycopy(fieldKinds,
+                     0,
+                     allFieldKinds,
+                     this.fieldKinds.length,
+                     fieldKinds.length);
+    return new DominoV2MessageDriverMetadata(clearOnBlur,
+                                             allFieldIds,
+                                             allFieldKinds);
+  }
+
+  /**
+   * Checks, if a message is removed once the field blurs
+   *
+   * @return the clearOnBlur policy of the provider class
+   */
+  public boolean isClearOnBlur() {
+    return this.clearOnBlur;
+  }
+
+  /**
+   * Returns the number of fields known at compile time
+   *
+   * @return number of fields
+   */
+  public int getFieldCount() {
+    return this.fieldIds.length;
+  }
+
+  /**
+   * Returns the field ids known at compile time
+   *
+   * @return field ids indexed by ordinal (unmodifiable)
+   */
+  public List<String> getFieldIds() {
+    return this.fieldIdList;
+  }
+
+  /**
+   * Returns the field id of a field
+   *
+   * @param ordinal ordinal of the field
+   * @return the field id
+   */
+  public String getFieldId(int ordinal) {
+    return this.fieldIds[ordinal];
+  }
+
+  /**
+   * Returns the kind of a field
+   *
+   * @param ordinal ordinal of the field
+   * @return the field kind
+   */
+  public FieldKind getFieldKind(int ordinal) {
+    return this.fieldKinds[ordinal];
+  }
+
+  /**
+   * Returns the ordinal of a field
+   *
+   * @param fieldId the field id
+   * @return the ordinal or -1, in case the field id is not known at compile time
+   */
+  public int getOrdinal(String fieldId) {
+    Integer ordinal = this.ordinals.get(fieldId);
+    return ordinal == null ? -1 : ordinal;
+  }
+
+  /**
+   * How a form element is read from the provider
+   */
+  public enum FieldKind {
+    /* field of the provider */
+    FIELD,
+    /* field of type Supplier */
+    SUPPLIER,
+    /* getter */
+    GETTER
+  }
+
+}
@@ -0,0 +1,545 @@
+package io.github.nalukit.domino.v2.message.binding.client.handling;
+
+import io.github.nalukit.domino.v2.message.binding.client.DominoV2MessageFactory;
+import io.github.nalukit.domino.v2.message.binding.client.internal.helper.DominoV2ErrorSourcePattern;
+import io.github.nalukit.domino.v2.message.binding.client.metrics.DriverMetrics;
+import io.github.nalukit.domino.v2.message.binding.shared.model.IsDominoV2Message;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Registry of the drivers of a screen.
+ * <p>
+ * Screens nesting several components with driver support (header form,
+ * tabs, sub-forms) register their drivers once they are initialized.
+ * The registered drivers publish their field ids into one shared index.
+ * A single <code>consume</code> or <code>replace</code> routes every message
+ * to the drivers binding its error sources in one pass over the message list.
+ * Messages with error sources no registered driver binds are handed to the
+ * MessageFactory once.
+ * <p>
+ * Drivers of repeated rows or sub-forms can be registered under a path prefix,
+ * f.e. <code>items[3]</code>. The driver binds the field ids relative to the
+ * prefix (<code>quantity</code>) and receives the messages of the error source
+ * <code>items[3].quantity</code>. Prefixes are kept in a trie of path segments
+ * (<code>items</code>, <code>[3]</code>), so the cost of a lookup depends on the
+ * depth of the path, not on the number of registered fields. In case several
+ * prefixes match, the longest one binding the rest of the path wins.
+ * <p>
+ * Error sources can be patterns, f.e. <code>items[*].price</code> (see
+ * {@link DominoV2ErrorSourcePattern}). A pattern is evaluated once against
+ * the paths of all registered fields, the result is cached until the
+ * registered fields change.
+ * <p>
+ * Get the registry using <code>DominoV2MessageFactory.get().getDriverRegistry()</code>.
+ */
+public class DominoV2MessageDriverRegistry {
+
+  private final static AbstractDominoV2MessageDriver<?>[] NO_DRIVERS = new AbstractDominoV2MessageDriver<?>[0];
+
+  /* registered drivers (in order of registration) */
+  private final List<AbstractDominoV2MessageDriver<?>> drivers;
+
+  /* registered drivers by identity - membership test without equals() */
+  private final Map<AbstractDominoV2MessageDriver<?>, Boolean> registered;
+
+  /* root of the trie of path prefixes - holds the drivers registered without prefix */
+  private final PathNode root;
+
+  /* error source pattern -> matching fields, cleared in case the registered fields change or the cache is full */
+  private final Map<String, PatternMatches> patternMatches;
+
+  public DominoV2MessageDriverRegistry() {
+    this.drivers = new ArrayList<>();
+    this.registered = new IdentityHashMap<>();
+    this.root = new PathNode();
+    this.patternMatches = new HashMap<>();
+  }
+
+  /**
+   * Registers a driver. The driver has to be initialized before.
+   * <p>
+   * Elements added to the driver at runtime are added to the index.
+   * Destroying the driver removes it from the registry.
+   *
+   * @param driver the driver
+   * @return the registration of the driver
+   */
+  public DriverRegistration register(AbstractDominoV2MessageDriver<?> driver) {
+    return this.register(driver,
+                         null);
+  }
+
+  /**
+   * Registers a driver under a path prefix. The driver has to be initialized before.
+   * <p>
+   * The driver receives the messages of error sources starting with the prefix,
+   * f.e.: prefix <code>items[3]</code>, field id <code>quantity</code> -&gt; error
+   * source <code>items[3].quantity</code>. Registering a registered driver again
+   * moves it to the new prefix (f.e. after the rows of a list are renumbered).
+   *
+   * @param driver     the driver
+   * @param pathPrefix the prefix, f.e.: <code>address</code> or <code>items[3]</code>, null -&gt; no prefix
+   * @return the registration of the driver
+   */
+  public DriverRegistration register(AbstractDominoV2MessageDriver<?> driver,
+                                     String pathPrefix) {
+    if (!Objects.isNull(driver.getDriverRegistry()) && driver.getDriverRegistry() != this) {
+      throw new IllegalStateException("driver is already registered with another registry");
+    }
+    String prefix = Objects.isNull(pathPrefix) ? "" : pathPrefix;
+    if (this.registered.containsKey(driver)) {
+      if (!prefix.equals(driver.getPathPrefix())) {
+        // move the entries of the driver only - keeps the order of registration
+        this.unindexDriver(driver);
+        driver.setPathPrefix(prefix);
+        this.indexDriver(driver);
+      }
+    } else {
+      this.drivers.add(driver);
+      this.registered.put(driver,
+                          Boolean.TRUE);
+      driver.setDriverRegistry(this);
+      driver.setPathPrefix(prefix);
+      this.indexDriver(driver);
+    }
+    return new DriverRegistration() {
+      @Override
+      public void remove() {
+        DominoV2MessageDriverRegistry.this.remove(driver);
+      }
+    };
+  }
+
+  /**
+   * Displays the messages using the registered drivers
+   * (see {@link IsDominoV2MessageDriver#consume(List)}).
+   *
+   * @param messages the messages
+   */
+  public void consume(List<? extends IsDominoV2Message> messages) {
+    this.checkNoSession();
+    DriverMetrics metrics = DominoV2MessageFactory.get()
+                                                  .getMetrics();
+    boolean timed = metrics.isTimingEnabled();
+    long start = timed ? System.nanoTime() : 0L;
+    boolean routed = this.collectMessages(metrics,
+                                          messages);
+    for (int i = 0; i < this.drivers.size(); i++) {
+      this.drivers.get(i)
+                  .applyPendingMessages(true);
+    }
+    if (routed) {
+      DominoV2MessageFactory.get()
+                            .dispatch();
+    }
+    if (timed) {
+      metrics.consumeTime(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Replaces the messages displayed by the registered drivers
+   * (see {@link IsDominoV2MessageDriver#replace(List)}).
+   *
+   * @param messages the messages
+   */
+  public void replace(List<? extends IsDominoV2Message> messages) {
+    this.checkNoSession();
+    DriverMetrics metrics = DominoV2MessageFactory.get()
+                                                  .getMetrics();
+    boolean timed = metrics.isTimingEnabled();
+    long start = timed ? System.nanoTime() : 0L;
+    boolean routed = this.collectMessages(metrics,
+                                          messages);
+    for (int i = 0; i < this.drivers.size(); i++) {
+      AbstractDominoV2MessageDriver<?> driver = this.drivers.get(i);
+      driver.clearNotPending();
+      driver.applyPendingMessages(false);
+    }
+    if (routed) {
+      DominoV2MessageFactory.get()
+                            .dispatch();
+    }
+    if (timed) {
+      metrics.consumeTime(System.nanoTime() - start);
+    }
+  }
+
+  /**
+   * Removes the messages of all registered drivers
+   */
+  public void clearInvalid() {
+    for (int i = 0; i < this.drivers.size(); i++) {
+      this.drivers.get(i)
+                  .clearInvalid();
+    }
+  }
+
+  /**
+   * Returns the registered drivers
+   *
+   * @return the drivers (in order of registration, unmodifiable)
+   */
+  public List<AbstractDominoV2MessageDriver<?>> getDrivers() {
+    return Collections.unmodifiableList(this.drivers);
+  }
+
+  /**
+   * Adds a field id of a registered driver to the index
+   *
+   * @param driver  the driver
+   * @param fieldId the field id
+   */
+  void index(AbstractDominoV2MessageDriver<?> driver,
+             String fieldId) {
+    this.patternMatches.clear();
+    PathNode node = this.root;
+    String prefix = driver.getPathPrefix();
+    int start = 0;
+    while (start < prefix.length()) {
+      int end = DominoV2MessageDriverRegistry.segmentEnd(prefix,
+                                                         start);
+      node = node.getOrCreateChild(prefix.substring(start,
+                                                    end));
+      start = DominoV2MessageDriverRegistry.nextSegmentStart(prefix,
+                                                             end);
+    }
+    AbstractDominoV2MessageDriver<?>[] fieldDrivers = node.index.getOrDefault(fieldId,
+                                                                              DominoV2MessageDriverRegistry.NO_DRIVERS);
+    for (AbstractDominoV2MessageDriver<?> fieldDriver : fieldDrivers) {
+      if (fieldDriver == driver) {
+        return;
+      }
+    }
+    AbstractDominoV2MessageDriver<?>[] newFieldDrivers = Arrays.copyOf(fieldDrivers,
+                                                                       fieldDrivers.length + 1);
+    newFieldDrivers[fieldDrivers.length] = driver;
+    node.index.put(fieldId,
+                   newFieldDrivers);
+  }
+
+  /**
+   * Removes a driver and its field ids
+   *
+   * @param driver the driver
+   */
+  void remove(AbstractDominoV2MessageDriver<?> driver) {
+    if (Objects.isNull(this.registered.remove(driver))) {
+      return;
+    }
+    for (int i = 0; i < this.drivers.size(); i++) {
+      if (this.drivers.get(i) == driver) {
+        this.drivers.remove(i);
+        break;
+      }
+    }
+    this.unindexDriver(driver);
+    driver.setDriverRegistry(null);
+    driver.setPathPrefix(null);
+  }
+
+  private void indexDriver(AbstractDominoV2MessageDriver<?> driver) {
+    List<String> fieldIds = driver.getFieldIds();
+    for (int i = 0; i < fieldIds.size(); i++) {
+      this.index(driver,
+                 fieldIds.get(i));
+    }
+  }
+
+  /**
+   * Removes the field ids of a driver from the index.
+   * Only the entries of the driver are touched, nodes left empty are dropped.
+   *
+   * @param driver the driver
+   */
+  private void unindexDriver(AbstractDominoV2MessageDriver<?> driver) {
+    this.patternMatches.clear();
+    List<PathNode> path = new ArrayList<>();
+    List<String> segments = new ArrayList<>();
+    PathNode node = this.root;
+    String prefix = driver.getPathPrefix();
+    int start = 0;
+    while (start < prefix.length()) {
+      int end = DominoV2MessageDriverRegistry.segmentEnd(prefix,
+                                                         start);
+      String segment = prefix.substring(start,
+                                        end);
+      path.add(node);
+      segments.add(segment);
+      node = Objects.isNull(node.children) ? null : node.children.get(segment);
+      if (Objects.isNull(node)) {
+        return;
+      }
+      start = DominoV2MessageDriverRegistry.nextSegmentStart(prefix,
+                                                             end);
+    }
+    List<String> fieldIds = driver.getFieldIds();
+    for (int i = 0; i < fieldIds.size(); i++) {
+      node.remove(fieldIds.get(i),
+                  driver);
+    }
+    for (int i = path.size() - 1; i >= 0 && node.isEmpty(); i--) {
+      PathNode parent = path.get(i);
+      parent.children.remove(segments.get(i));
+      node = parent;
+    }
+  }
+
+  /**
+   * Collects the field messages inside the drivers binding the error sources.
+   * Messages not displayed on a field are handed to the MessageFactory.
+   *
+   * @param metrics  metrics of the MessageFactory
+   * @param messages the messages
+   * @return true, in case messages were handed to the MessageFactory
+   */
+  private boolean collectMessages(DriverMetrics metrics,
+                                  List<? extends IsDominoV2Message> messages) {
+    boolean routed = false;
+    for (int i = 0; i < messages.size(); i++) {
+      IsDominoV2Message m = messages.get(i);
+      metrics.messageConsumed(m.getTarget());
+      if (IsDominoV2Message.Target.FIELD == m.getTarget()) {
+        boolean unmatched = false;
+        List<String> errorSources = m.getErrorSources();
+        for (int j = 0; j < errorSources.size(); j++) {
+          String errorSource = errorSources.get(j);
+          if (Objects.isNull(errorSource) || !(this.collectMessage(this.root,
+                                                                   m,
+                                                                   errorSource,
+                                                                   0) || this.collectPatternMessage(m,
+                                                                                                    errorSource))) {
+            metrics.errorSourceUnmatched(errorSource);
+            unmatched = true;
+          }
+        }
+        if (unmatched) {
+          DominoV2MessageFactory.get()
+                                .offer(m);
+          routed = true;
+        }
+      } else {
+        DominoV2MessageFactory.get()
+                              .offer(m);
+        routed = true;
+      }
+    }
+    return routed;
+  }
+
+  /**
+   * Walks down the trie along the segments of the error source and collects the
+   * message inside the drivers of the deepest node binding the rest of the path.
+   *
+   * @param node        current node
+   * @param message     the message
+   * @param errorSource the error source
+   * @param start       start of the rest of the path (relative to the node)
+   * @return true, in case a driver has collected the message
+   */
+  private boolean collectMessage(PathNode node,
+                                 IsDominoV2Message message,
+                                 String errorSource,
+                                 int start) {
+    // longest prefix first - a prefix is always followed by a field id
+    if (!Objects.isNull(node.children) && start < errorSource.length()) {
+      int end = DominoV2MessageDriverRegistry.segmentEnd(errorSource,
+                                                         start);
+      if (end < errorSource.length()) {
+        PathNode child = node.children.get(errorSource.substring(start,
+                                                                 end));
+        if (!Objects.isNull(child) && this.collectMessage(child,
+                                                          message,
+                                                          errorSource,
+                                                          DominoV2MessageDriverRegistry.nextSegmentStart(errorSource,
+                                                                                                         end))) {
+          return true;
+        }
+      }
+    }
+    String fieldId = start == 0 ? errorSource : errorSource.substring(start);
+    AbstractDominoV2MessageDriver<?>[] fieldDrivers = node.index.get(fieldId);
+    if (Objects.isNull(fieldDrivers)) {
+      return false;
+    }
+    boolean matched = false;
+    for (AbstractDominoV2MessageDriver<?> driver : fieldDrivers) {
+      matched |= driver.collectMessage(message,
+                                       fieldId);
+    }
+    return matched;
+  }
+
+  /**
+   * Collects the message inside the drivers of all fields matching the
+   * error source, in case the error source is a pattern.
+   *
+   * @param message     the message
+   * @param errorSource the error source
+   * @return true, in case a driver has collected the message
+   */
+  private boolean collectPatternMessage(IsDominoV2Message message,
+                                        String errorSource) {
+    if (!DominoV2ErrorSourcePattern.isPattern(errorSource)) {
+      return false;
+    }
+    PatternMatches matches = this.patternMatches.get(errorSource);
+    if (Objects.isNull(matches)) {
+      matches = this.match(DominoV2ErrorSourcePattern.compile(errorSource));
+      if (this.patternMatches.size() >= DominoV2ErrorSourcePattern.CACHE_SIZE) {
+        this.patternMatches.clear();
+      }
+      this.patternMatches.put(errorSource,
+                              matches);
+    }
+    boolean matched = false;
+    for (int i = 0; i < matches.drivers.length; i++) {
+      matched |= matches.drivers[i].collectMessage(message,
+                                                   matches.fieldIds[i]);
+    }
+    return matched;
+  }
+
+  /**
+   * Evaluates the pattern against the paths of all registered fields
+   *
+   * @param pattern the pattern
+   * @return the matching fields
+   */
+  private PatternMatches match(DominoV2ErrorSourcePattern pattern) {
+    List<AbstractDominoV2MessageDriver<?>> matchingDrivers = new ArrayList<>();
+    List<String> matchingFieldIds = new ArrayList<>();
+    for (int i = 0; i < this.drivers.size(); i++) {
+      AbstractDominoV2MessageDriver<?> driver = this.drivers.get(i);
+      String prefix = driver.getPathPrefix();
+      List<String> fieldIds = driver.getFieldIds();
+      for (int j = 0; j < fieldIds.size(); j++) {
+        String fieldId = fieldIds.get(j);
+        String path = prefix.isEmpty() ? fieldId : fieldId.startsWith("[") ? prefix + fieldId : prefix + "." + fieldId;
+        if (pattern.matches(path)) {
+          matchingDrivers.add(driver);
+          matchingFieldIds.add(fieldId);
+        }
+      }
+    }
+    return new PatternMatches(matchingDrivers.toArray(DominoV2MessageDriverRegistry.NO_DRIVERS),
+                              matchingFieldIds.toArray(new String[0]));
+  }
+
+  /**
+   * Returns the end of the path segment starting at start.
+   * Segments are separated by '.' - an index ("[3]") is a segment of its own.
+   *
+   * @param path  the path
+   * @param start start of the segment
+   * @return end of the segment (excluding)
+   */
+  private static int segmentEnd(String path,
+                                int start) {
+    if (path.charAt(start) == '[') {
+      int end = path.indexOf(']',
+                             start);
+      return end == -1 ? path.length() : end + 1;
+    }
+    for (int i = start + 1; i < path.length(); i++) {
+      char c = path.charAt(i);
+      if (c == '.' || c == '[') {
+        return i;
+      }
+    }
+    return path.length();
+  }
+
+  private static int nextSegmentStart(String path,
+                                      int end) {
+    return end < path.length() && path.charAt(end) == '.' ? end + 1 : end;
+  }
+
+  private void checkNoSession() {
+    for (int i = 0; i < this.drivers.size(); i++) {
+      this.drivers.get(i)
+                  .checkNoSession();
+    }
+  }
+
+  /**
+   * Fields matching a pattern: the driver and the field id (relative to the prefix) of each field
+   */
+  private static class PatternMatches {
+
+    private final AbstractDominoV2MessageDriver<?>[] drivers;
+
+    private final String[] fieldIds;
+
+    private PatternMatches(AbstractDominoV2MessageDriver<?>[] drivers,
+                           String[] fieldIds) {
+      this.drivers = drivers;
+      this.fieldIds = fieldIds;
+    }
+
+  }
+
+  /**
+   * Node of the trie of path prefixes
+   */
+  private static class PathNode {
+
+    /* field id relative to the prefix of the node -> drivers binding the field id */
+    private final Map<String, AbstractDominoV2MessageDriver<?>[]> index = new HashMap<>();
+
+    /* path segment -> child, null -> no child */
+    private Map<String, PathNode> children;
+
+    private void remove(String fieldId,
+                        AbstractDominoV2MessageDriver<?> driver) {
+      AbstractDominoV2MessageDriver<?>[] fieldDrivers = this.index.get(fieldId);
+      if (Objects.isNull(fieldDrivers)) {
+        return;
+      }
+      for (int i = 0; i < fieldDrivers.length; i++) {
+        if (fieldDrivers[i] == driver) {
+          if (fieldDrivers.length == 1) {
+            this.index.remove(fieldId);
+          } else {
+            AbstractDominoV2MessageDriver<?>[] newFieldDrivers = new AbstractDominoV2MessageDriver<?>[fieldDrivers.length - 1];
+            System.arraycopy(fieldDrivers,
+                             0,
+                             newFieldDrivers,
+                             0,
+                             i);
+            System.arraycopy(fieldDrivers,
+                             i + 1,
+                             newFieldDrivers,
+                             i,
+                             fieldDrivers.length - i - 1);
+            this.index.put(fieldId,
+                           newFieldDrivers);
+          }
+          return;
+        }
+      }
+    }
+
+    private boolean isEmpty() {
+      return this.index.isEmpty() && (Objects.isNull(this.children) || this.children.isEmpty());
+    }
+
+    private PathNode getOrCreateChild(String segment) {
+      if (Objects.isNull(this.children)) {
+        this.children = new HashMap<>();
+      }
+      return this.children.computeIfAbsent(segment,
+                                           s -> new PathNode());
+    }
+
+  }
+
+}
@@ -0,0 +1,272 @@
+package io.github.nalukit.domino.v2.message.binding.client.handling;
+
+import elemental2.dom.DOMRect;
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
+import io.github.nalukit.domino.v2.message.binding.client.internal.helper.DominoV2MessageElementWrapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Scheduler that coalesces the DOM writes of message drivers.
+ * <p>
+ * Instead of calling <code>invalidate</code> or <code>clearInvalid</code>
+ * on the form element immediately, a driver using this scheduler only
+ * updates the state of the field and queues the field. The queue is
+ * flushed once per animation frame. In case a field is updated several
+ * times before the flush, only the last state gets written.
+ * <p>
+ * The scheduler is opt-in. Set it on a driver using
+ * {@link AbstractDominoV2MessageDriver#setRenderScheduler(DominoV2MessageRenderScheduler)}.
+ * One scheduler can be shared by several drivers.
+ * <p>
+ * By default, the whole queue is written within one frame. For huge message
+ * batches, set a frame budget: the queue is then written in slices, each slice
+ * taking at most the budget, yielding to the browser between the slices.
+ * Fields that have the focus are written first, followed by the fields
+ * visible inside the viewport.
+ */
+public class DominoV2MessageRenderScheduler {
+
+  /* priorities of a field - lower values are written first */
+  protected final static int PRIORITY_FOCUSED = 0;
+  protected final static int PRIORITY_VISIBLE = 1;
+  protected final static int PRIORITY_DEFAULT = 2;
+
+  /* fields waiting for the next flush */
+  private List<DominoV2MessageElementWrapper> scheduledWrappers;
+
+  /* position of the next field to write (in case the queue is written in slices) */
+  private int next;
+
+  /* true, in case the fields not yet written are ordered by priority */
+  private boolean prioritized;
+
+  /* maximum time (ms) spent writing per frame, 0 -> no limit */
+  private double frameBudget;
+
+  /* callbacks to run once the queue is empty */
+  private final List<Runnable> completionCallbacks;
+
+  /* id of the requested animation frame, -1 in case no frame is requested */
+  private int frameId;
+
+  public DominoV2MessageRenderScheduler() {
+    this.scheduledWrappers = new ArrayList<>();
+    this.completionCallbacks = new ArrayList<>();
+    this.frameId = -1;
+  }
+
+  /**
+   * Sets the maximum time spent writing to the DOM per animation frame.
+   * <p>
+   * In case the time is exceeded, the remaining fields are written during
+   * the next frames. At least one field is written per frame.
+   *
+   * @param frameBudget budget in milliseconds, 0 -> write the whole queue at once (default)
+   */
+  public void setFrameBudget(double frameBudget) {
+    this.frameBudget = frameBudget;
+  }
+
+  /**
+   * Runs the callback once all queued fields are written.
+   * In case nothing is queued, the callback runs immediately.
+   *
+   * @param callback the callback
+   */
+  public void whenComplete(Runnable callback) {
+    if (this.hasPendingWrites()) {
+      this.completionCallbacks.add(callback);
+    } else {
+      callback.run();
+    }
+  }
+
+  /**
+   * Queues the field for the next flush. The state of the
+   * field (message text) has to be set before.
+   *
+   * @param wrapper the field to render
+   */
+  public void schedule(DominoV2MessageElementWrapper wrapper) {
+    if (!wrapper.isScheduled()) {
+      wrapper.setScheduled(true);
+      this.scheduledWrappers.add(wrapper);
+      this.prioritized = false;
+    }
+    if (this.frameId == -1) {
+      this.frameId = this.requestFrame();
+    }
+  }
+
+  /**
+   * Writes the state of all queued fields to the DOM immediately.
+   * <p>
+   * Useful for tests or in case the DOM has to be up to date
+   * before the next animation frame.
+   */
+  public void flushNow() {
+    if (this.frameId != -1) {
+      this.cancelFrame(this.frameId);
+      this.frameId = -1;
+    }
+    this.write(this.scheduledWrappers.size());
+    this.complete();
+  }
+
+  /**
+   * Checks, if there are fields waiting for the next flush
+   *
+   * @return true, in case fields are queued
+   */
+  public boolean hasPendingWrites() {
+    return this.next < this.scheduledWrappers.size();
+  }
+
+  /**
+   * Requests the animation frame that flushes the queue.
+   * <p>
+   * Override to run the scheduler outside a browser: the frame
+   * has to call {@link #flush()}.
+   *
+   * @return id of the requested frame
+   */
+  protected int requestFrame() {
+    return DomGlobal.requestAnimationFrame(timestamp -> this.flush());
+  }
+
+  /**
+   * Cancels a requested animation frame
+   *
+   * @param frameId id of the frame to cancel
+   */
+  protected void cancelFrame(int frameId) {
+    DomGlobal.cancelAnimationFrame(frameId);
+  }
+
+  /**
+   * Returns the current time used to check the frame budget.
+   * <p>
+   * Override to run the scheduler outside a browser.
+   *
+   * @return time in milliseconds
+   */
+  protected double now() {
+    return DomGlobal.performance.now();
+  }
+
+  /**
+   * Returns the priority of a field. Only called in case a frame budget is set.
+   * <p>
+   * Fields containing the focused element come first, followed by fields
+   * intersecting the viewport. Override to run the scheduler outside a browser.
+   *
+   * @param wrapper the field
+   * @return priority (lower values are written first)
+   */
+  protected int getPriority(DominoV2MessageElementWrapper wrapper) {
+    Element element = wrapper.getFormElement()
+                             .element();
+    Element activeElement = DomGlobal.document.activeElement;
+    if (!Objects.isNull(activeElement) && element.contains(activeElement)) {
+      return DominoV2MessageRenderScheduler.PRIORITY_FOCUSED;
+    }
+    DOMRect rect = element.getBoundingClientRect();
+    if (rect.bottom >= 0 &&
+        rect.right >= 0 &&
+        rect.top <= DomGlobal.window.innerHeight &&
+        rect.left <= DomGlobal.window.innerWidth &&
+        (rect.width > 0 || rect.height > 0)) {
+      return DominoV2MessageRenderScheduler.PRIORITY_VISIBLE;
+    }
+    return DominoV2MessageRenderScheduler.PRIORITY_DEFAULT;
+  }
+
+  /**
+   * Writes the queued fields, called by the requested animation frame.
+   * <p>
+   * In case a frame budget is set and the budget is exceeded,
+   * the next frame is requested.
+   */
+  protected void flush() {
+    this.frameId = -1;
+    if (this.frameBudget <= 0) {
+      this.write(this.scheduledWrappers.size());
+      this.complete();
+      return;
+    }
+    if (!this.prioritized) {
+      // read the layout once, before anything is written
+      this.prioritize();
+    }
+    double start = this.now();
+    int end = this.next;
+    do {
+      end++;
+      this.write(end);
+    } while (end < this.scheduledWrappers.size() && this.now() - start < this.frameBudget);
+    if (this.hasPendingWrites()) {
+      // yield to the browser
+      this.frameId = this.requestFrame();
+    } else {
+      this.complete();
+    }
+  }
+
+  /**
+   * Writes the fields up to (excluding) the given position
+   *
+   * @param end position of the first field not to write
+   */
+  private void write(int end) {
+    for (; this.next < end; this.next++) {
+      DominoV2MessageElementWrapper wrapper = this.scheduledWrappers.get(this.next);
+      wrapper.setScheduled(false);
+      wrapper.render();
+    }
+  }
+
+  private void complete() {
+    this.scheduledWrappers.clear();
+    this.next = 0;
+    if (this.completionCallbacks.isEmpty()) {
+      return;
+    }
+    // callbacks may schedule new writes or add new callbacks
+    List<Runnable> callbacks = new ArrayList<>(this.completionCallbacks);
+    this.completionCallbacks.clear();
+    for (Runnable callback : callbacks) {
+      callback.run();
+    }
+  }
+
+  /**
+   * Orders the fields not yet written by priority (stable)
+   */
+  private void prioritize() {
+    int size = this.scheduledWrappers.size() - this.next;
+    int[] priorities = new int[size];
+    for (int i = 0; i < size; i++) {
+      int priority = this.getPriority(this.scheduledWrappers.get(this.next + i));
+      priorities[i] = Math.max(DominoV2MessageRenderScheduler.PRIORITY_FOCUSED,
+                               Math.min(DominoV2MessageRenderScheduler.PRIORITY_DEFAULT,
+                                        priority));
+    }
+    List<DominoV2MessageElementWrapper> ordered = new ArrayList<>(this.scheduledWrappers.size());
+    ordered.addAll(this.scheduledWrappers.subList(0,
+                                                  this.next));
+    for (int priority = DominoV2MessageRenderScheduler.PRIORITY_FOCUSED; priority <= DominoV2MessageRenderScheduler.PRIORITY_DEFAULT; priority++) {
+      for (int i = 0; i < size; i++) {
+        if (priorities[i] == priority) {
+          ordered.add(this.scheduledWrappers.get(this.next + i));
+        }
+      }
+    }
+    this.scheduledWrappers = ordered;
+    this.prioritized = true;
+  }
+
+}
@@ -0,0 +1,13 @@
+package io.github.nalukit.domino.v2.message.binding.client.handling;
+
+/**
+ * Registration of a driver for the DominoV2MessageDriverRegistry
+ */
+public interface DriverRegistration {
+
+  /**
+   * removes the registered driver from the registry
+   */
+  void remove();
+
+}
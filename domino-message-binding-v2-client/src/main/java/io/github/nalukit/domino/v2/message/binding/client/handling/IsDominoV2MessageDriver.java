@@ -1,7 +1,10 @@
 package io.github.nalukit.domino.v2.message.binding.client.handling;
 
+import elemental2.dom.Element;
 import io.github.nalukit.domino.v2.message.binding.shared.model.IsDominoV2Message;
 
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 
 public interface IsDominoV2MessageDriver<P extends IsDominoV2MessageProvider> {
@@ -13,11 +16,92 @@ public interface IsDominoV2MessageDriver<P extends IsDominoV2MessageProvider> {
    */
   void consume(List<? extends IsDominoV2Message> messages);
 
+  /**
+   * Displays the messages and runs the callback once all fields are updated.
+   * <p>
+   * In case the driver uses a render scheduler with a frame budget, the fields
+   * are updated in slices over several animation frames and the callback runs
+   * after the last slice. Without a render scheduler, the callback runs
+   * immediately.
+   *
+   * @param messages   messages to display
+   * @param onComplete callback
+   */
+  void consume(List<? extends IsDominoV2Message> messages,
+               Runnable onComplete);
+
+  /**
+   * Replaces the messages currently displayed with the given messages.
+   * <p>
+   * The driver remembers the last text applied to each field. Only fields
+   * whose message was added, removed or changed are updated. Calling this
+   * method replaces the combination of <code>clearInvalid()</code> and
+   * <code>consume(messages)</code>.
+   *
+   * @param messages messages to display
+   */
+  void replace(List<? extends IsDominoV2Message> messages);
+
+  /**
+   * Starts a streaming session.
+   * <p>
+   * A session works like <code>replace</code>, but the messages arrive in
+   * chunks: call <code>accept</code> for every chunk and <code>end()</code>
+   * once all chunks are received. The messages of every chunk are displayed
+   * immediately. Fields that displayed a message before the session and
+   * were not mentioned by any chunk are cleared by <code>end()</code>.
+   * <p>
+   * <code>consume</code> and <code>replace</code> must not be called
+   * while a session is running.
+   *
+   * @throws IllegalStateException in case a session is already running
+   */
+  void begin();
+
+  /**
+   * Displays the messages of a chunk of a streaming session
+   *
+   * @param chunk messages of the chunk
+   * @throws IllegalStateException in case no session is running
+   */
+  void accept(List<? extends IsDominoV2Message> chunk);
+
+  /**
+   * Displays the messages of an iterator-style source (f.e. a parser)
+   * in chunks, while they are read. Only one chunk is kept in memory.
+   *
+   * @param messages source of the messages
+   * @throws IllegalStateException in case no session is running
+   */
+  void accept(Iterator<? extends IsDominoV2Message> messages);
+
+  /**
+   * Ends a streaming session and clears the fields not mentioned by the session
+   *
+   * @throws IllegalStateException in case no session is running
+   */
+  void end();
+
   /**
    * clears all error messages
    */
   void clearInvalid();
 
+  /**
+   * clears the error messages of the given fields
+   *
+   * @param fieldIds ids of the fields to clear
+   */
+  void clearInvalid(Collection<String> fieldIds);
+
+  /**
+   * Checks, if the field is marked as invalid by the driver
+   *
+   * @param fieldId id of the field
+   * @return true, in case the field displays a message
+   */
+  boolean isInvalid(String fieldId);
+
   /**
    * Deregister the driver
    */
@@ -42,7 +126,32 @@ public interface IsDominoV2MessageDriver<P extends IsDominoV2MessageProvider> {
 
   /**
    * Register the driver
+   * <p>
+   * Does nothing, in case the driver is already registered
+   * (using this method or <code>register(Element)</code>).
    */
   void register();
 
+  /**
+   * Register the driver using one delegated focusout listener.
+   * <p>
+   * Instead of adding a blur listener to every field, the driver adds
+   * a single focusout listener to the root element of the provider
+   * and resolves the field that lost the focus using an index.
+   * <p>
+   * Calling this method again with the same root element does nothing.
+   * Calling it with another root element moves the listener to that element.
+   * Does nothing, in case the driver is registered using <code>register()</code>.
+   *
+   * @param rootElement element containing all fields of the provider
+   */
+  void register(Element rootElement);
+
+  /**
+   * Returns the field ids bound by this driver
+   *
+   * @return the field ids (fields known at compile time first)
+   */
+  List<String> getFieldIds();
+
 }
@@ -8,9 +8,14 @@ import java.lang.annotation.Target;
 /**
  * This annotation is used to mark a element as
  * message presenter.
+ * <p>
+ * Can be used with a field, a field of type <code>Supplier</code>
+ * or a getter returning the form element. The element is read the
+ * first time the driver needs it.
  */
 @Retention(RetentionPolicy.RUNTIME)
-@Target(ElementType.FIELD)
+@Target({ ElementType.FIELD,
+          ElementType.METHOD })
 public @interface DominoV2MessagePresenter {
 
   String value();
@@ -0,0 +1,136 @@
+package io.github.nalukit.domino.v2.message.binding.client.internal.helper;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Error source containing wildcards, f.e.: <code>items[*].price</code>
+ * or <code>billing.**</code>.
+ * <ul>
+ * <li><code>*</code> matches any characters except '.' (one path segment)</li>
+ * <li><code>**</code> matches any characters (several path segments)</li>
+ * </ul>
+ * Patterns are compiled once and cached.
+ */
+public class DominoV2ErrorSourcePattern {
+
+  /**
+   * Maximum number of cached patterns - caches of patterns are cleared once exceeded
+   */
+  public final static int CACHE_SIZE = 256;
+
+  private final static Map<String, DominoV2ErrorSourcePattern> CACHE = new HashMap<>();
+
+  private final String pattern;
+
+  /* characters before the first wildcard - checked first */
+  private final String literalPrefix;
+
+  private DominoV2ErrorSourcePattern(String pattern) {
+    this.pattern = pattern;
+    this.literalPrefix = pattern.substring(0,
+                                           pattern.indexOf('*'));
+  }
+
+  /**
+   * Checks, if the error source contains a wildcard
+   *
+   * @param errorSource the error source
+   * @return true, in case the error source is a pattern
+   */
+  public static boolean isPattern(String errorSource) {
+    return errorSource.indexOf('*') != -1;
+  }
+
+  /**
+   * Returns the compiled pattern
+   *
+   * @param pattern the pattern (has to contain a wildcard)
+   * @return the compiled pattern
+   */
+  public static DominoV2ErrorSourcePattern compile(String pattern) {
+    DominoV2ErrorSourcePattern compiled = DominoV2ErrorSourcePattern.CACHE.get(pattern);
+    if (Objects.isNull(compiled)) {
+      if (DominoV2ErrorSourcePattern.CACHE.size() >= DominoV2ErrorSourcePattern.CACHE_SIZE) {
+        DominoV2ErrorSourcePattern.CACHE.clear();
+      }
+      compiled = new DominoV2ErrorSourcePattern(pattern);
+      DominoV2ErrorSourcePattern.CACHE.put(pattern,
+                                           compiled);
+    }
+    return compiled;
+  }
+
+  /**
+   * Checks, if the field id matches the pattern
+   *
+   * @param fieldId the field id
+   * @return true, in case the field id matches
+   */
+  public boolean matches(String fieldId) {
+    return fieldId.startsWith(this.literalPrefix) && this.matches(this.literalPrefix.length(),
+                                                                  fieldId,
+                                                                  this.literalPrefix.length());
+  }
+
+  public String getPattern() {
+    return pattern;
+  }
+
+  /**
+   * Greedy match: a wildcard first matches nothing. On a mismatch the last
+   * wildcard takes one more character. A '*' can't take a '.', in this case
+   * the last '**' takes one more character. Runs in O(pattern * fieldId),
+   * no backtracking over all wildcards.
+   */
+  private boolean matches(int patternIndex,
+                          String fieldId,
+                          int fieldIdIndex) {
+    int p = patternIndex;
+    int f = fieldIdIndex;
+    // pattern index after the last wildcard and field id index it matches up to, -1 -> none
+    int starPatternIndex = -1;
+    int starFieldIdIndex = -1;
+    boolean starAnySegment = false;
+    // the same for the last '**'
+    int anyPatternIndex = -1;
+    int anyFieldIdIndex = -1;
+    while (f < fieldId.length()) {
+      if (p < this.pattern.length() && this.pattern.charAt(p) == '*') {
+        starAnySegment = p + 1 < this.pattern.length() && this.pattern.charAt(p + 1) == '*';
+        p = starAnySegment ? p + 2 : p + 1;
+        starPatternIndex = p;
+        starFieldIdIndex = f;
+        if (starAnySegment) {
+          anyPatternIndex = p;
+          anyFieldIdIndex = f;
+        }
+      } else if (p < this.pattern.length() && this.pattern.charAt(p) == fieldId.charAt(f)) {
+        p++;
+        f++;
+      } else if (starPatternIndex != -1 && (starAnySegment || fieldId.charAt(starFieldIdIndex) != '.')) {
+        starFieldIdIndex++;
+        if (starAnySegment) {
+          anyFieldIdIndex = starFieldIdIndex;
+        }
+        p = starPatternIndex;
+        f = starFieldIdIndex;
+      } else if (anyPatternIndex != -1) {
+        anyFieldIdIndex++;
+        starPatternIndex = anyPatternIndex;
+        starFieldIdIndex = anyFieldIdIndex;
+        starAnySegment = true;
+        p = anyPatternIndex;
+        f = anyFieldIdIndex;
+      } else {
+        return false;
+      }
+    }
+    while (p < this.pattern.length() && this.pattern.charAt(p) == '*') {
+      p++;
+    }
+    return p == this.pattern.length();
+  }
+
+}
@@ -1,13 +1,32 @@
 package io.github.nalukit.domino.v2.message.binding.client.internal.helper;
 
 import elemental2.dom.EventListener;
+import io.github.nalukit.domino.v2.message.binding.shared.model.IsDominoV2Message;
 import org.dominokit.domino.ui.forms.AbstractFormElement;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
 public class DominoV2MessageElementWrapper {
 
   private AbstractFormElement<?, ?>  formElement;
   private String                  fieldId;
   private       EventListener           blurEventListener;
+  /* texts of the messages currently displayed by the driver, null or empty in case the element is valid */
+  private List<String>            texts;
+  /* messages collected during a consume or replace, applied once the whole message list is processed */
+  private List<IsDominoV2Message> pendingMessages;
+  /* texts built from the pending messages, swapped with texts once applied */
+  private List<String>            pendingTexts;
+  private boolean                 pending;
+  /* true, in case messages were collected since the element was updated last */
+  private boolean                 changed;
+  /* true, in case the element is queued by a render scheduler */
+  private boolean                 scheduled;
+  /* position inside the list of invalid elements of the driver, -1 in case the element is valid */
+  private int                     invalidIndex = -1;
   //  private List<InvalidHandler>   invalidHandlers;
   //  private List<ValidHandler>     validHandlers;
 
@@ -99,7 +118,8 @@ public class DominoV2MessageElementWrapper {
    * @param message error messaghe
    */
   public void invalidate(String message) {
-    this.formElement.invalidate(message);
+    this.setText(message);
+    this.render();
     //    this.invalidHandlers.forEach(h -> h.onInvalid(this.formElement));
   }
 
@@ -107,7 +127,221 @@ public class DominoV2MessageElementWrapper {
    * removes the error message
    */
   public void clearInvalid() {
-    this.formElement.clearInvalid();
+    this.setText(null);
+    this.render();
+  }
+
+  /**
+   * Sets the text of the message without updating the element.
+   * The element gets updated once <code>render()</code> is called.
+   *
+   * @param text message text or null to mark the element as valid
+   */
+  public void setText(String text) {
+    if (Objects.isNull(text)) {
+      if (!Objects.isNull(this.texts)) {
+        this.texts.clear();
+      }
+      return;
+    }
+    if (Objects.isNull(this.texts)) {
+      this.texts = new ArrayList<>();
+    }
+    this.texts.clear();
+    this.texts.add(text);
+  }
+
+  /**
+   * Writes the current state to the element (one DOM update, regardless
+   * of the number of messages)
+   */
+  public void render() {
+    if (this.isInvalid()) {
+      this.formElement.invalidate(this.texts);
+    } else {
+      this.formElement.clearInvalid();
+    }
+  }
+
+  /**
+   * Return the position inside the list of invalid elements of the driver
+   *
+   * @return position or -1, in case the element is not part of the list
+   */
+  public int getInvalidIndex() {
+    return this.invalidIndex;
+  }
+
+  /**
+   * Sets the position inside the list of invalid elements of the driver
+   *
+   * @param invalidIndex position or -1, in case the element is not part of the list
+   */
+  public void setInvalidIndex(int invalidIndex) {
+    this.invalidIndex = invalidIndex;
+  }
+
+  /**
+   * Checks, if the element is queued by a render scheduler
+   *
+   * @return true, in case the element is queued
+   */
+  public boolean isScheduled() {
+    return this.scheduled;
+  }
+
+  /**
+   * Sets the scheduled state
+   *
+   * @param scheduled true, in case the element is queued by a render scheduler
+   */
+  public void setScheduled(boolean scheduled) {
+    this.scheduled = scheduled;
+  }
+
+  /**
+   * Return the text of the first message currently displayed by the driver
+   *
+   * @return message text or null, in case the element is not marked as invalid
+   */
+  public String getText() {
+    return this.isInvalid() ? this.texts.get(0) : null;
+  }
+
+  /**
+   * Return the texts of the messages currently displayed by the driver
+   *
+   * @return message texts, empty in case the element is not marked as invalid
+   */
+  public List<String> getTexts() {
+    return Objects.isNull(this.texts) ? Collections.emptyList() : this.texts;
+  }
+
+  /**
+   * Checks, if the element is marked as invalid by the driver
+   *
+   * @return true, in case the element is marked as invalid
+   */
+  public boolean isInvalid() {
+    return !Objects.isNull(this.texts) && !this.texts.isEmpty();
+  }
+
+  /**
+   * Checks, if messages were collected for this element during a consume or replace
+   *
+   * @return true, in case messages are pending
+   */
+  public boolean isPending() {
+    return this.pending;
+  }
+
+  /**
+   * Checks, if messages were collected since the element was updated last
+   *
+   * @return true, in case the element has to be updated
+   */
+  public boolean isChanged() {
+    return this.changed;
+  }
+
+  /**
+   * Sets the changed state
+   *
+   * @param changed true, in case the element has to be updated
+   */
+  public void setChanged(boolean changed) {
+    this.changed = changed;
+  }
+
+  /**
+   * Collects a message that will be displayed once the consume or replace is applied.
+   * <p>
+   * A message is ignored in case a message with the same message id, text and
+   * arguments is already collected for this element.
+   *
+   * @param message the message
+   * @return false, in case the message is a duplicate
+   */
+  public boolean addPendingMessage(IsDominoV2Message message) {
+    this.pending = true;
+    if (Objects.isNull(this.pendingMessages)) {
+      this.pendingMessages = new ArrayList<>();
+    }
+    for (int i = 0; i < this.pendingMessages.size(); i++) {
+      if (this.isDuplicate(this.pendingMessages.get(i),
+                           message)) {
+        return false;
+      }
+    }
+    this.pendingMessages.add(message);
+    return true;
+  }
+
+  /**
+   * Return the messages collected for this element during a consume or replace
+   *
+   * @return pending messages (in order of arrival)
+   */
+  public List<IsDominoV2Message> getPendingMessages() {
+    return Objects.isNull(this.pendingMessages) ? Collections.emptyList() : this.pendingMessages;
+  }
+
+  /**
+   * Return the list the driver fills with the texts to display
+   * once the pending messages are applied
+   *
+   * @return pending texts (reused, never null)
+   */
+  public List<String> getPendingTexts() {
+    if (Objects.isNull(this.pendingTexts)) {
+      this.pendingTexts = new ArrayList<>();
+    }
+    return this.pendingTexts;
+  }
+
+  /**
+   * Makes the pending texts the texts of this element
+   * without updating the element.
+   *
+   * @return false, in case the pending texts are equal to the current texts (nothing to do)
+   */
+  public boolean applyPendingTexts() {
+    List<String> newTexts = this.getPendingTexts();
+    if (newTexts.equals(this.getTexts())) {
+      return false;
+    }
+    // swap the lists - both are reused
+    this.pendingTexts = this.texts;
+    this.texts = newTexts;
+    return true;
+  }
+
+  /**
+   * Resets the pending state
+   */
+  public void resetPending() {
+    if (!Objects.isNull(this.pendingMessages)) {
+      this.pendingMessages.clear();
+    }
+    if (!Objects.isNull(this.pendingTexts)) {
+      this.pendingTexts.clear();
+    }
+    this.pending = false;
+    this.changed = false;
+  }
+
+  /* exact duplicate: same message id, text and arguments - messages sharing only the id are kept */
+  private boolean isDuplicate(IsDominoV2Message collected,
+                              IsDominoV2Message message) {
+    if (collected == message) {
+      return true;
+    }
+    return Objects.equals(collected.getMessageId(),
+                          message.getMessageId()) &&
+           Objects.equals(collected.getText(),
+                          message.getText()) &&
+           Objects.equals(collected.getArguments(),
+                          message.getArguments());
   }
 
 }
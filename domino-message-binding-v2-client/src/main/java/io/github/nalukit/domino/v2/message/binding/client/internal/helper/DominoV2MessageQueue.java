@@ -0,0 +1,78 @@
+package io.github.nalukit.domino.v2.message.binding.client.internal.helper;
+
+import io.github.nalukit.domino.v2.message.binding.shared.model.IsDominoV2Message;
+
+/**
+ * Bounded FIFO queue of messages backed by a ring buffer.
+ * <p>
+ * In case the queue is full, the oldest message gets dropped.
+ * Adding and removing messages does not allocate.
+ */
+public class DominoV2MessageQueue {
+
+  private IsDominoV2Message[] messages;
+  private int                 head;
+  private int                 size;
+
+  public DominoV2MessageQueue(int capacity) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be greater than 0");
+    }
+    this.messages = new IsDominoV2Message[capacity];
+  }
+
+  /**
+   * Adds a message at the end of the queue
+   *
+   * @param message the message
+   * @return false, in case the queue was full and the oldest message was dropped
+   */
+  public boolean offer(IsDominoV2Message message) {
+    boolean dropped = this.size == this.messages.length;
+    if (dropped) {
+      this.poll();
+    }
+    this.messages[(this.head + this.size) % this.messages.length] = message;
+    this.size++;
+    return !dropped;
+  }
+
+  /**
+   * Removes the first message of the queue
+   *
+   * @return the first message or null, in case the queue is empty
+   */
+  public IsDominoV2Message poll() {
+    if (this.size == 0) {
+      return null;
+    }
+    IsDominoV2Message message = this.messages[this.head];
+    this.messages[this.head] = null;
+    this.head = (this.head + 1) % this.messages.length;
+    this.size--;
+    return message;
+  }
+
+  public int size() {
+    return this.size;
+  }
+
+  public boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  public int getCapacity() {
+    return this.messages.length;
+  }
+
+  /**
+   * Removes all messages
+   */
+  public void clear() {
+    while (this.size > 0) {
+      this.poll();
+    }
+    this.head = 0;
+  }
+
+}
@@ -0,0 +1,82 @@
+package io.github.nalukit.domino.v2.message.binding.client.metrics;
+
+import io.github.nalukit.domino.v2.message.binding.shared.model.IsDominoV2Message;
+
+/**
+ * Hook to record what the message drivers and the MessageFactory do.
+ * <p>
+ * All methods do nothing by default. Implement only the methods of interest
+ * or use {@link DriverMetricsRecorder}. The default {@link #NO_OP} instance
+ * does not record anything and does not read the clock.
+ * <p>
+ * Set the metrics on the MessageFactory before the drivers are created
+ * (drivers use the metrics of the factory by default) or on a driver using
+ * <code>setMetrics</code>.
+ */
+public interface DriverMetrics {
+
+  /* records nothing - default */
+  DriverMetrics NO_OP = new DriverMetrics() {
+  };
+
+  /**
+   * Called for every message consumed by a driver or routed to the MessageFactory
+   *
+   * @param target target of the message (can be null)
+   */
+  default void messageConsumed(IsDominoV2Message.Target target) {
+  }
+
+  /**
+   * Called for every error source of a field message that is not bound by the driver
+   *
+   * @param errorSource the error source
+   */
+  default void errorSourceUnmatched(String errorSource) {
+  }
+
+  /**
+   * Called every time a driver marks a field as invalid. In case a render
+   * scheduler is used, several calls within one frame result in one DOM write.
+   */
+  default void fieldInvalidated() {
+  }
+
+  /**
+   * Called every time a driver removes the message of a field
+   * (including the ones caused by a blur).
+   */
+  default void fieldCleared() {
+  }
+
+  /**
+   * Called every time a field gets cleared because it lost the focus
+   */
+  default void fieldClearedOnBlur() {
+  }
+
+  /**
+   * Called in case the MessageFactory drops a message because its queue is full
+   */
+  default void messageDropped() {
+  }
+
+  /**
+   * Controls, if the drivers measure the time of <code>consume</code> and <code>replace</code>.
+   *
+   * @return true, in case {@link #consumeTime(long)} should be called
+   */
+  default boolean isTimingEnabled() {
+    return false;
+  }
+
+  /**
+   * Called after a driver has processed a message list.
+   * Only called in case {@link #isTimingEnabled()} returns true.
+   *
+   * @param nanos wall time in nanoseconds
+   */
+  default void consumeTime(long nanos) {
+  }
+
+}
@@ -0,0 +1,106 @@
+package io.github.nalukit.domino.v2.message.binding.client.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Histogram with fixed buckets.
+ * <p>
+ * Every bucket counts the values less than or equal to its upper bound
+ * and greater than the upper bound of the previous bucket. Values greater
+ * than the last upper bound are counted by an additional overflow bucket.
+ * Recording a value does not allocate.
+ */
+public class DriverMetricsHistogram {
+
+  /* upper bounds of the buckets used by default (microseconds) */
+  public final static long[] DEFAULT_UPPER_BOUNDS = { 100L,
+                                                      250L,
+                                                      500L,
+                                                      1_000L,
+                                                      2_500L,
+                                                      5_000L,
+                                                      10_000L,
+                                                      25_000L,
+                                                      50_000L,
+                                                      100_000L };
+
+  private final long[] upperBounds;
+
+  /* one count per bound + overflow bucket */
+  private final long[] counts;
+
+  private long count;
+  private long sum;
+
+  public DriverMetricsHistogram() {
+    this(DriverMetricsHistogram.DEFAULT_UPPER_BOUNDS);
+  }
+
+  /**
+   * Creates a histogram
+   *
+   * @param upperBounds ascending upper bounds of the buckets
+   */
+  public DriverMetricsHistogram(long[] upperBounds) {
+    for (int i = 1; i < upperBounds.length; i++) {
+      if (upperBounds[i] <= upperBounds[i - 1]) {
+        throw new IllegalArgumentException("upper bounds must be ascending");
+      }
+    }
+    this.upperBounds = Arrays.copyOf(upperBounds,
+                                    upperBounds.length);
+    this.counts = new long[upperBounds.length + 1];
+  }
+
+  /**
+   * Records a value
+   *
+   * @param value the value
+   */
+  public void record(long value) {
+    int i = 0;
+    while (i < this.upperBounds.length && value > this.upperBounds[i]) {
+      i++;
+    }
+    this.counts[i]++;
+    this.count++;
+    this.sum += value;
+  }
+
+  /**
+   * Returns the upper bounds of the buckets (without the overflow bucket)
+   *
+   * @return copy of the upper bounds
+   */
+  public long[] getUpperBounds() {
+    return Arrays.copyOf(this.upperBounds,
+                       this.upperBounds.length);
+  }
+
+  /**
+   * Returns the counts of the buckets. The last element is the overflow bucket.
+   *
+   * @return copy of the counts
+   */
+  public long[] getCounts() {
+    return Arrays.copyOf(this.counts,
+                       this.counts.length);
+  }
+
+  public long getCount() {
+    return this.count;
+  }
+
+  public long getSum() {
+    return this.sum;
+  }
+
+  public void reset() {
+    for (int i = 0; i < this.counts.length; i++) {
+      this.counts[i] = 0;
+    }
+    this.count = 0;
+    this.sum = 0;
+  }
+
+}
@@ -0,0 +1,177 @@
+package io.github.nalukit.domino.v2.message.binding.client.metrics;
+
+import io.github.nalukit.domino.v2.message.binding.shared.model.IsDominoV2Message;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Implementation of {@link DriverMetrics} that counts the calls
+ * and records the consume time (microseconds) inside a histogram.
+ * <p>
+ * Use {@link #export()} to hand the recorded values to a monitoring
+ * system. One recorder can be shared by the MessageFactory and all drivers.
+ */
+public class DriverMetricsRecorder
+    implements DriverMetrics {
+
+  /* number of consumed messages per target (indexed by ordinal) */
+  private final long[] consumedMessages;
+
+  private long unmatchedErrorSources;
+  private long invalidatedFields;
+  private long clearedFields;
+  private long clearedFieldsOnBlur;
+  private long droppedMessages;
+
+  private final DriverMetricsHistogram consumeTime;
+
+  public DriverMetricsRecorder() {
+    this(new DriverMetricsHistogram());
+  }
+
+  /**
+   * Creates a recorder using a custom histogram
+   *
+   * @param consumeTime histogram for the consume time (microseconds)
+   */
+  public DriverMetricsRecorder(DriverMetricsHistogram consumeTime) {
+    this.consumedMessages = new long[IsDominoV2Message.Target.values().length];
+    this.consumeTime = consumeTime;
+  }
+
+  @Override
+  public void messageConsumed(IsDominoV2Message.Target target) {
+    // messages without target are handled as FACTORY messages
+    this.consumedMessages[Objects.isNull(target) ? IsDominoV2Message.Target.FACTORY.ordinal() : target.ordinal()]++;
+  }
+
+  @Override
+  public void errorSourceUnmatched(String errorSource) {
+    this.unmatchedErrorSources++;
+  }
+
+  @Override
+  public void fieldInvalidated() {
+    this.invalidatedFields++;
+  }
+
+  @Override
+  public void fieldCleared() {
+    this.clearedFields++;
+  }
+
+  @Override
+  public void fieldClearedOnBlur() {
+    this.clearedFieldsOnBlur++;
+  }
+
+  @Override
+  public void messageDropped() {
+    this.droppedMessages++;
+  }
+
+  @Override
+  public boolean isTimingEnabled() {
+    return true;
+  }
+
+  @Override
+  public void consumeTime(long nanos) {
+    this.consumeTime.record(nanos / 1_000L);
+  }
+
+  /**
+   * Returns the number of consumed messages of a target.
+   * Messages without target are counted as FACTORY messages.
+   *
+   * @param target the target
+   * @return number of messages, 0 in case the target is null
+   */
+  public long getConsumedMessages(IsDominoV2Message.Target target) {
+    return Objects.isNull(target) ? 0L : this.consumedMessages[target.ordinal()];
+  }
+
+  public long getUnmatchedErrorSources() {
+    return unmatchedErrorSources;
+  }
+
+  public long getInvalidatedFields() {
+    return invalidatedFields;
+  }
+
+  public long getClearedFields() {
+    return clearedFields;
+  }
+
+  public long getClearedFieldsOnBlur() {
+    return clearedFieldsOnBlur;
+  }
+
+  public long getDroppedMessages() {
+    return droppedMessages;
+  }
+
+  public DriverMetricsHistogram getConsumeTime() {
+    return consumeTime;
+  }
+
+  /**
+   * Exports the recorded values as flat key/value pairs, f.e.:
+   * <ul>
+   * <li><code>messages.consumed.FIELD</code></li>
+   * <li><code>fields.invalidated</code></li>
+   * <li><code>consume.time.us.le.1000</code> (count of the bucket)</li>
+   * <li><code>consume.time.us.le.inf</code> (count of the overflow bucket)</li>
+   * </ul>
+   *
+   * @return the recorded values (ordered)
+   */
+  public Map<String, Long> export() {
+    Map<String, Long> values = new LinkedHashMap<>();
+    for (IsDominoV2Message.Target target : IsDominoV2Message.Target.values()) {
+      values.put("messages.consumed." + target.name(),
+                 this.consumedMessages[target.ordinal()]);
+    }
+    values.put("messages.dropped",
+               this.droppedMessages);
+    values.put("errorSources.unmatched",
+               this.unmatchedErrorSources);
+    values.put("fields.invalidated",
+               this.invalidatedFields);
+    values.put("fields.cleared",
+               this.clearedFields);
+    values.put("fields.clearedOnBlur",
+               this.clearedFieldsOnBlur);
+    long[] upperBounds = this.consumeTime.getUpperBounds();
+    long[] counts = this.consumeTime.getCounts();
+    for (int i = 0; i < upperBounds.length; i++) {
+      values.put("consume.time.us.le." + upperBounds[i],
+                 counts[i]);
+    }
+    values.put("consume.time.us.le.inf",
+               counts[upperBounds.length]);
+    values.put("consume.time.us.count",
+               this.consumeTime.getCount());
+    values.put("consume.time.us.sum",
+               this.consumeTime.getSum());
+    return values;
+  }
+
+  /**
+   * Resets all recorded values, f.e. after an export
+   */
+  public void reset() {
+    for (int i = 0; i < this.consumedMessages.length; i++) {
+      this.consumedMessages[i] = 0;
+    }
+    this.unmatchedErrorSources = 0;
+    this.invalidatedFields = 0;
+    this.clearedFields = 0;
+    this.clearedFieldsOnBlur = 0;
+    this.droppedMessages = 0;
+    this.consumeTime.reset();
+  }
+
+}
@@ -0,0 +1,26 @@
+package io.github.nalukit.domino.v2.message.binding.client.presenter;
+
+import io.github.nalukit.domino.v2.message.binding.shared.model.IsDominoV2Message;
+
+/**
+ * interfaces that defines a presenter for messages that are
+ * not displayed on a field.
+ * <p>
+ * A presenter is registered at the MessageFactory for a target:
+ * <ul>
+ * <li><b>DIALOG</b>: messages to show once in a pop-up</li>
+ * <li><b>FACTORY</b>: messages to add to the messages of the application</li>
+ * <li><b>FIELD</b>: field messages with at least one error source that is not bound by a driver</li>
+ * </ul>
+ */
+@FunctionalInterface
+public interface IsMessagePresenter {
+
+  /**
+   * Shows the message
+   *
+   * @param message the message to show
+   */
+  void show(IsDominoV2Message message);
+
+}
@@ -0,0 +1,89 @@
+package io.github.nalukit.domino.v2.message.binding.client;
+
+import io.github.nalukit.domino.v2.message.binding.shared.model.IsDominoV2Message;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class TestMessage
+    implements IsDominoV2Message {
+
+  private String       id;
+  private String       messageId;
+  private String       text;
+  private Target       target;
+  private List<String> errorSources;
+  private List<String> arguments = Collections.emptyList();
+
+  public TestMessage(String messageId,
+                     String text,
+                     String... errorSources) {
+    this.id = messageId + ":" + text;
+    this.messageId = messageId;
+    this.text = text;
+    this.target = Target.FIELD;
+    this.errorSources = Arrays.asList(errorSources);
+  }
+
+  public TestMessage withArguments(String... arguments) {
+    this.arguments = Arrays.asList(arguments);
+    return this;
+  }
+
+  @Override
+  public String getId() {
+    return this.id;
+  }
+
+  @Override
+  public void setId(String id) {
+    this.id = id;
+  }
+
+  @Override
+  public String getMessageId() {
+    return this.messageId;
+  }
+
+  @Override
+  public void setMessageId(String messageId) {
+    this.messageId = messageId;
+  }
+
+  @Override
+  public String getText() {
+    return this.text;
+  }
+
+  @Override
+  public void setText(String text) {
+    this.text = text;
+  }
+
+  @Override
+  public Target getTarget() {
+    return this.target;
+  }
+
+  @Override
+  public void setTarget(Target target) {
+    this.target = target;
+  }
+
+  @Override
+  public List<String> getErrorSources() {
+    return this.errorSources;
+  }
+
+  @Override
+  public void setErrorSources(List<String> errorSources) {
+    this.errorSources = errorSources;
+  }
+
+  @Override
+  public List<String> getArguments() {
+    return this.arguments;
+  }
+
+}
@@ -0,0 +1,226 @@
+package io.github.nalukit.domino.v2.message.binding.client.handling;
+
+import io.github.nalukit.domino.v2.message.binding.client.TestMessage;
+import io.github.nalukit.domino.v2.message.binding.client.internal.helper.DominoV2MessageElementWrapper;
+import io.github.nalukit.domino.v2.message.binding.shared.model.IsDominoV2Message;
+import org.junit.Before;
+import org.junit.Assume;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class AbstractDominoV2MessageDriverConsumeTest {
+
+  private TestMessageProvider provider;
+  private TestMessageDriver   driver;
+
+  @Before
+  public void setUp() {
+    this.provider = new TestMessageProvider();
+    this.driver = new TestMessageDriver();
+    this.driver.initialize(this.provider);
+  }
+
+  @Test
+  public void repeatedConsumeAndReplaceReuseTheTextLists() {
+    this.driver.consume(Collections.singletonList(new TestMessage("required",
+                                                                  "Name is required",
+                                                                  "name")));
+    DominoV2MessageElementWrapper wrapper = this.driver.getMessageElementWrapper("name");
+    List<String> texts = wrapper.getTexts();
+    List<String> pendingTexts = wrapper.getPendingTexts();
+    assertNotSame(texts,
+                  pendingTexts);
+
+    for (int i = 0; i < 10; i++) {
+      this.driver.replace(Collections.singletonList(new TestMessage("length",
+                                                                    "Name is too long (" + i + ")",
+                                                                    "name")));
+      assertEquals("Name is too long (" + i + ")",
+                   this.provider.name.getErrorMessage());
+      // the lists are swapped on every update, no list is created
+      assertReused(texts,
+                   pendingTexts,
+                   wrapper);
+      this.driver.consume(Collections.singletonList(new TestMessage("required",
+                                                                    "Name is required",
+                                                                    "name")));
+      assertReused(texts,
+                   pendingTexts,
+                   wrapper);
+    }
+    this.driver.clearInvalid();
+    assertReused(texts,
+                 pendingTexts,
+                 wrapper);
+  }
+
+  @Test
+  public void steadyStateConsumeDoesNotAllocate() {
+    ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    Assume.assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean &&
+                      ((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported());
+    com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threadMXBean;
+    List<TestMessage> messages = Arrays.asList(new TestMessage("required",
+                                                               "Name is required",
+                                                               "name"),
+                                               new TestMessage("length",
+                                                               "Street is too long",
+                                                               "street"));
+    // warm up: creates the wrappers and lets the JIT compile the hot path
+    for (int i = 0; i < 20000; i++) {
+      this.consume(messages);
+    }
+
+    int iterations = 10000;
+    long threadId = Thread.currentThread()
+                          .getId();
+    long before = allocations.getThreadAllocatedBytes(threadId);
+    for (int i = 0; i < iterations; i++) {
+      this.consume(messages);
+    }
+    long allocated = allocations.getThreadAllocatedBytes(threadId) - before;
+
+    // the stub form element does not allocate in invalidate - what is left is the driver
+    double bytesPerMessage = (double) allocated / (iterations * messages.size());
+    assertTrue("allocated " + bytesPerMessage + " bytes per consumed message",
+               bytesPerMessage < 1);
+    assertEquals("Street is too long",
+                 this.provider.street.getErrorMessage());
+  }
+
+  @Test
+  public void sessionKeepsTheMessagesOfEarlierChunks() {
+    this.driver.begin();
+    this.driver.accept(Arrays.asList(new TestMessage("required",
+                                                     "Name is required",
+                                                     "name"),
+                                     new TestMessage("required",
+                                                     "Street is required",
+                                                     "street")));
+    this.driver.accept(Collections.singletonList(new TestMessage("length",
+                                                                 "Name is too short",
+                                                                 "name")));
+    this.driver.end();
+
+    assertEquals(Arrays.asList("Name is required",
+                               "Name is too short"),
+                 this.driver.getMessageElementWrapper("name")
+                            .getTexts());
+    assertEquals("Street is required",
+                 this.provider.street.getErrorMessage());
+  }
+
+  @Test
+  public void endClearsFieldsNotMentioned() {
+    this.driver.consume(Arrays.asList(new TestMessage("required",
+                                                      "Name is required",
+                                                      "name"),
+                                      new TestMessage("required",
+                                                      "Street is required",
+                                                      "street")));
+
+    this.driver.begin();
+    this.driver.accept(Collections.singletonList(new TestMessage("length",
+                                                                 "Name is too short",
+                                                                 "name")));
+    // cleared by end() only
+    assertEquals("Street is required",
+                 this.provider.street.getErrorMessage());
+    this.driver.end();
+
+    assertEquals("Name is too short",
+                 this.provider.name.getErrorMessage());
+    assertNull(this.provider.street.getErrorMessage());
+  }
+
+  @Test
+  public void acceptIteratorSplitsIntoChunks() {
+    List<Integer> chunkSizes = new ArrayList<>();
+    TestMessageDriver driver = new TestMessageDriver() {
+      @Override
+      public void accept(List<? extends IsDominoV2Message> chunk) {
+        chunkSizes.add(chunk.size());
+        super.accept(chunk);
+      }
+    };
+    driver.initialize(this.provider);
+    List<TestMessage> messages = new ArrayList<>();
+    for (int i = 0; i < 250; i++) {
+      messages.add(new TestMessage("message" + i,
+                                   "Message " + i,
+                                   i % 2 == 0 ? "name" : "street"));
+    }
+
+    driver.begin();
+    driver.accept(messages.iterator());
+    driver.end();
+
+    assertEquals(Arrays.asList(100,
+                               100,
+                               50),
+                 chunkSizes);
+    assertEquals(125,
+                 driver.getMessageElementWrapper("street")
+                       .getTexts()
+                       .size());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void consumeInsideSession() {
+    this.driver.begin();
+    this.driver.consume(Collections.emptyList());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void replaceInsideSession() {
+    this.driver.begin();
+    this.driver.replace(Collections.emptyList());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void beginInsideSession() {
+    this.driver.begin();
+    this.driver.begin();
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void acceptOutsideSession() {
+    this.driver.accept(Collections.emptyList());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void acceptIteratorOutsideSession() {
+    this.driver.accept(Collections.<IsDominoV2Message>emptyList()
+                                  .iterator());
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void endOutsideSession() {
+    this.driver.end();
+  }
+
+  /* one steady-state update: the fields are invalid again after every call */
+  private void consume(List<TestMessage> messages) {
+    this.driver.clearInvalid();
+    this.driver.consume(messages);
+  }
+
+  private static void assertReused(List<String> texts,
+                                   List<String> pendingTexts,
+                                   DominoV2MessageElementWrapper wrapper) {
+    assertTrue((wrapper.getTexts() == texts && wrapper.getPendingTexts() == pendingTexts) ||
+               (wrapper.getTexts() == pendingTexts && wrapper.getPendingTexts() == texts));
+  }
+
+}
@@ -0,0 +1,130 @@
+package io.github.nalukit.domino.v2.message.binding.client.handling;
+
+import io.github.nalukit.domino.v2.message.binding.client.TestMessage;
+import io.github.nalukit.domino.v2.message.binding.client.metrics.DriverMetricsRecorder;
+import io.github.nalukit.domino.v2.message.binding.client.stub.StubFieldSetElement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class AbstractDominoV2MessageDriverRegisterTest {
+
+  private TestMessageProvider provider;
+  private TestMessageDriver   driver;
+
+  @Before
+  public void setUp() {
+    this.provider = new TestMessageProvider();
+    this.driver = new TestMessageDriver();
+    this.driver.initialize(this.provider);
+  }
+
+  @Test
+  public void registerTwiceWithSameRootAddsOneListener() {
+    StubFieldSetElement root = new StubFieldSetElement();
+
+    this.driver.register(root);
+    this.driver.register(root);
+
+    assertEquals(1,
+                 root.getListenerCount());
+    this.driver.deregister();
+    assertEquals(0,
+                 root.getListenerCount());
+  }
+
+  @Test
+  public void registerWithAnotherRootMovesTheListener() {
+    StubFieldSetElement root = new StubFieldSetElement();
+    StubFieldSetElement otherRoot = new StubFieldSetElement();
+
+    this.driver.register(root);
+    this.driver.register(otherRoot);
+
+    assertEquals(0,
+                 root.getListenerCount());
+    assertEquals(1,
+                 otherRoot.getListenerCount());
+    this.driver.deregister();
+    assertEquals(0,
+                 otherRoot.getListenerCount());
+  }
+
+  @Test
+  public void registerAfterRegisterWithRootAddsNoListener() {
+    StubFieldSetElement root = new StubFieldSetElement();
+
+    this.driver.register(root);
+    this.driver.register();
+
+    assertEquals(1,
+                 root.getListenerCount());
+    assertEquals(0,
+                 this.provider.name.element()
+                                   .getListenerCount());
+    this.driver.deregister();
+    assertEquals(0,
+                 root.getListenerCount());
+    assertEquals(0,
+                 this.provider.name.element()
+                                   .getListenerCount());
+  }
+
+  @Test
+  public void registerWithRootAfterRegisterAddsNoListener() {
+    StubFieldSetElement root = new StubFieldSetElement();
+
+    this.driver.register();
+    this.driver.register(root);
+
+    assertEquals(0,
+                 root.getListenerCount());
+    assertEquals(1,
+                 this.provider.name.element()
+                                   .getListenerCount());
+    this.driver.deregister();
+    assertEquals(0,
+                 this.provider.name.element()
+                                   .getListenerCount());
+  }
+
+  @Test
+  public void blurOfUntrackedFieldCreatesNoWrapper() {
+    DriverMetricsRecorder metrics = new DriverMetricsRecorder();
+    this.driver.setMetrics(metrics);
+    this.driver.register();
+    this.provider.street.invalidate("set outside the driver");
+
+    this.provider.street.element()
+                        .fire();
+
+    assertNull(this.driver.boundMessageElementWrappers[1]);
+    assertNull(this.provider.street.getErrorMessage());
+    assertEquals(0,
+                 metrics.getClearedFieldsOnBlur());
+    this.driver.deregister();
+  }
+
+  @Test
+  public void blurOfTrackedFieldClearsTheMessage() {
+    DriverMetricsRecorder metrics = new DriverMetricsRecorder();
+    this.driver.setMetrics(metrics);
+    this.driver.register();
+    this.driver.consume(Collections.singletonList(new TestMessage("required",
+                                                                  "Name is required",
+                                                                  "name")));
+
+    this.provider.name.element()
+                      .fire();
+
+    assertNull(this.provider.name.getErrorMessage());
+    assertEquals(1,
+                 metrics.getClearedFieldsOnBlur());
+    this.driver.deregister();
+  }
+
+}
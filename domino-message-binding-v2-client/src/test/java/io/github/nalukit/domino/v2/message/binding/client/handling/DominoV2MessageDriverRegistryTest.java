@@ -0,0 +1,121 @@
+package io.github.nalukit.domino.v2.message.binding.client.handling;
+
+import io.github.nalukit.domino.v2.message.binding.client.TestMessage;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class DominoV2MessageDriverRegistryTest {
+
+  private DominoV2MessageDriverRegistry registry;
+  private TestMessageProvider           firstProvider;
+  private TestMessageDriver             firstDriver;
+  private TestMessageProvider           secondProvider;
+  private TestMessageDriver             secondDriver;
+
+  @Before
+  public void setUp() {
+    this.registry = new DominoV2MessageDriverRegistry();
+    this.firstProvider = new TestMessageProvider();
+    this.firstDriver = new TestMessageDriver();
+    this.firstDriver.initialize(this.firstProvider);
+    this.secondProvider = new TestMessageProvider();
+    this.secondDriver = new TestMessageDriver();
+    this.secondDriver.initialize(this.secondProvider);
+  }
+
+  @Test
+  public void removeKeepsTheEntriesOfTheOtherDrivers() {
+    this.registry.register(this.firstDriver,
+                           "items[1]");
+    this.registry.register(this.secondDriver,
+                           "items[2]");
+
+    this.registry.register(this.firstDriver,
+                           "items[1]")
+                 .remove();
+    this.registry.consume(Collections.singletonList(new TestMessage("required",
+                                                                    "Name is required",
+                                                                    "items[2].name")));
+
+    assertEquals(Collections.singletonList(this.secondDriver),
+                 this.registry.getDrivers());
+    assertNull(this.firstDriver.getDriverRegistry());
+    assertEquals("Name is required",
+                 this.secondProvider.name.getErrorMessage());
+  }
+
+  @Test
+  public void removeSharedPrefix() {
+    this.registry.register(this.firstDriver,
+                           "address");
+    this.registry.register(this.secondDriver,
+                           "address");
+
+    this.registry.remove(this.firstDriver);
+    this.registry.consume(Collections.singletonList(new TestMessage("required",
+                                                                    "Street is required",
+                                                                    "address.street")));
+
+    assertNull(this.firstProvider.street.getErrorMessage());
+    assertEquals("Street is required",
+                 this.secondProvider.street.getErrorMessage());
+  }
+
+  @Test
+  public void moveKeepsTheOrderAndTheOtherDrivers() {
+    this.registry.register(this.firstDriver,
+                           "items[1]");
+    this.registry.register(this.secondDriver,
+                           "items[2]");
+
+    this.registry.register(this.firstDriver,
+                           "items[3]");
+    this.registry.consume(Arrays.asList(new TestMessage("required",
+                                                        "Name is required",
+                                                        "items[3].name"),
+                                        new TestMessage("required",
+                                                        "Street is required",
+                                                        "items[2].street")));
+
+    assertEquals(Arrays.asList(this.firstDriver,
+                               this.secondDriver),
+                 this.registry.getDrivers());
+    assertEquals("items[3]",
+                 this.firstDriver.getPathPrefix());
+    assertEquals("Name is required",
+                 this.firstProvider.name.getErrorMessage());
+    assertEquals("Street is required",
+                 this.secondProvider.street.getErrorMessage());
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void driversAreUnmodifiable() {
+    this.registry.register(this.firstDriver);
+
+    this.registry.getDrivers()
+                 .clear();
+  }
+
+  @Test
+  public void registerAgainAfterRemove() {
+    this.registry.register(this.firstDriver,
+                           "items[1]");
+    this.registry.remove(this.firstDriver);
+    this.registry.register(this.firstDriver,
+                           "items[1]");
+
+    this.registry.consume(Collections.singletonList(new TestMessage("required",
+                                                                    "Name is required",
+                                                                    "items[1].name")));
+
+    assertEquals("Name is required",
+                 this.firstProvider.name.getErrorMessage());
+  }
+
+}
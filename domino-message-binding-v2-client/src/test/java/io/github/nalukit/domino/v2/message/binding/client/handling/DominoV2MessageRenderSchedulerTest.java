@@ -0,0 +1,189 @@
+package io.github.nalukit.domino.v2.message.binding.client.handling;
+
+import io.github.nalukit.domino.v2.message.binding.client.internal.helper.DominoV2MessageElementWrapper;
+import io.github.nalukit.domino.v2.message.binding.client.stub.StubEnvironment;
+import io.github.nalukit.domino.v2.message.binding.client.stub.StubFormElement;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DominoV2MessageRenderSchedulerTest {
+
+  private TestRenderScheduler scheduler;
+
+  @Before
+  public void setUp() {
+    StubEnvironment.init();
+    this.scheduler = new TestRenderScheduler();
+  }
+
+  @Test
+  public void coalescesRepeatedSchedules() {
+    DominoV2MessageElementWrapper name = this.createWrapper("name");
+    DominoV2MessageElementWrapper street = this.createWrapper("street");
+
+    name.setText("first");
+    this.scheduler.schedule(name);
+    name.setText("second");
+    this.scheduler.schedule(name);
+    street.setText("street");
+    this.scheduler.schedule(street);
+    name.setText("third");
+    this.scheduler.schedule(name);
+
+    assertEquals(1,
+                 this.scheduler.requestedFrames);
+    this.scheduler.flushNow();
+    assertEquals(1,
+                 this.getFormElement(name)
+                     .getWriteCount());
+    assertEquals("third",
+                 this.getFormElement(name)
+                     .getErrorMessage());
+    assertEquals(1,
+                 this.getFormElement(street)
+                     .getWriteCount());
+    assertFalse(this.scheduler.hasPendingWrites());
+  }
+
+  @Test
+  public void writesInSlicesFocusedFieldsFirst() {
+    List<DominoV2MessageElementWrapper> wrappers = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      DominoV2MessageElementWrapper wrapper = this.createWrapper("field" + i);
+      wrapper.setText("error " + i);
+      this.scheduler.schedule(wrapper);
+      wrappers.add(wrapper);
+    }
+    this.scheduler.focused.add(wrappers.get(5));
+    // the clock advances 1 ms per read -> 3 fields per frame
+    this.scheduler.setFrameBudget(2.5);
+    List<String> completed = new ArrayList<>();
+    this.scheduler.whenComplete(() -> completed.add("done"));
+
+    this.scheduler.flush();
+
+    assertTrue(this.isWritten(wrappers.get(5)));
+    assertTrue(this.isWritten(wrappers.get(0)));
+    assertTrue(this.isWritten(wrappers.get(1)));
+    assertFalse(this.isWritten(wrappers.get(2)));
+    assertTrue(this.scheduler.hasPendingWrites());
+    assertEquals(2,
+                 this.scheduler.requestedFrames);
+    assertTrue(completed.isEmpty());
+
+    this.scheduler.flush();
+
+    for (DominoV2MessageElementWrapper wrapper : wrappers) {
+      assertEquals(1,
+                   this.getFormElement(wrapper)
+                       .getWriteCount());
+    }
+    assertFalse(this.scheduler.hasPendingWrites());
+    assertEquals(2,
+                 this.scheduler.requestedFrames);
+    assertEquals(1,
+                 completed.size());
+  }
+
+  @Test
+  public void completionCallbackSchedulesAgain() {
+    DominoV2MessageElementWrapper name = this.createWrapper("name");
+    DominoV2MessageElementWrapper street = this.createWrapper("street");
+    List<String> completed = new ArrayList<>();
+    name.setText("name");
+    this.scheduler.schedule(name);
+    this.scheduler.whenComplete(() -> {
+      completed.add("name");
+      street.setText("street");
+      this.scheduler.schedule(street);
+      this.scheduler.whenComplete(() -> completed.add("street"));
+    });
+
+    this.scheduler.flush();
+
+    assertTrue(this.isWritten(name));
+    assertFalse(this.isWritten(street));
+    assertTrue(this.scheduler.hasPendingWrites());
+    assertEquals(2,
+                 this.scheduler.requestedFrames);
+    assertEquals(1,
+                 completed.size());
+
+    this.scheduler.flush();
+
+    assertTrue(this.isWritten(street));
+    assertFalse(this.scheduler.hasPendingWrites());
+    assertEquals(2,
+                 completed.size());
+    assertEquals("street",
+                 completed.get(1));
+  }
+
+  @Test
+  public void whenCompleteRunsImmediatelyWithoutPendingWrites() {
+    List<String> completed = new ArrayList<>();
+
+    this.scheduler.whenComplete(() -> completed.add("done"));
+
+    assertEquals(1,
+                 completed.size());
+    assertEquals(0,
+                 this.scheduler.requestedFrames);
+  }
+
+  private DominoV2MessageElementWrapper createWrapper(String fieldId) {
+    return new DominoV2MessageElementWrapper(StubFormElement.create(),
+                                             fieldId);
+  }
+
+  private StubFormElement getFormElement(DominoV2MessageElementWrapper wrapper) {
+    return (StubFormElement) wrapper.getFormElement();
+  }
+
+  private boolean isWritten(DominoV2MessageElementWrapper wrapper) {
+    return this.getFormElement(wrapper)
+               .getWriteCount() > 0;
+  }
+
+  /* runs without a browser: frames are run by calling flush(), the clock advances 1 ms per read */
+  private static class TestRenderScheduler
+      extends DominoV2MessageRenderScheduler {
+
+    private final Set<DominoV2MessageElementWrapper> focused = new HashSet<>();
+
+    private int    requestedFrames;
+    private double time;
+
+    @Override
+    protected int requestFrame() {
+      return ++this.requestedFrames;
+    }
+
+    @Override
+    protected void cancelFrame(int frameId) {
+    }
+
+    @Override
+    protected double now() {
+      return this.time++;
+    }
+
+    @Override
+    protected int getPriority(DominoV2MessageElementWrapper wrapper) {
+      return this.focused.contains(wrapper) ?
+             DominoV2MessageRenderScheduler.PRIORITY_FOCUSED :
+             DominoV2MessageRenderScheduler.PRIORITY_DEFAULT;
+    }
+
+  }
+
+}
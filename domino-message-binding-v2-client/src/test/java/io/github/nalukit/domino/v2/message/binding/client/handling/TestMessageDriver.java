@@ -0,0 +1,75 @@
+package io.github.nalukit.domino.v2.message.binding.client.handling;
+
+import io.github.nalukit.domino.v2.message.binding.client.internal.helper.DominoV2MessageElementWrapper;
+import org.dominokit.domino.ui.forms.AbstractFormElement;
+
+import java.util.Objects;
+
+/**
+ * Driver of {@link TestMessageProvider}, written like the drivers generated by the processor
+ */
+public class TestMessageDriver
+    extends AbstractDominoV2MessageDriver<TestMessageProvider> {
+
+  static final DominoV2MessageDriverMetadata METADATA = DominoV2MessageDriverMetadata.of(true,
+                                                                                         new String[] { "name",
+                                                                                                        "street" },
+                                                                                         new DominoV2MessageDriverMetadata.FieldKind[] { DominoV2MessageDriverMetadata.FieldKind.FIELD,
+                                                                                                                                         DominoV2MessageDriverMetadata.FieldKind.FIELD });
+
+  private TestMessageProvider provider;
+
+  @Override
+  public void initialize(TestMessageProvider messageProvider) {
+    this.provider = messageProvider;
+    super.initializeBoundMessageElements(TestMessageDriver.METADATA);
+  }
+
+  @Override
+  protected void registerBoundMessageElements() {
+    this.provider.name.element()
+                      .addEventListener(AbstractDominoV2MessageDriver.FOCUS_OUT,
+                                        super.createBlurEventListener(0));
+    this.provider.street.element()
+                        .addEventListener(AbstractDominoV2MessageDriver.FOCUS_OUT,
+                                          super.createBlurEventListener(1));
+  }
+
+  @Override
+  protected void deregisterBoundMessageElements() {
+    this.provider.name.element()
+                      .removeEventListener(AbstractDominoV2MessageDriver.FOCUS_OUT,
+                                           super.releaseBlurEventListener(0));
+    this.provider.street.element()
+                        .removeEventListener(AbstractDominoV2MessageDriver.FOCUS_OUT,
+                                             super.releaseBlurEventListener(1));
+  }
+
+  @Override
+  protected AbstractFormElement<?, ?> getBoundFormElement(int index) {
+    switch (index) {
+      case 0:
+        return this.provider.name;
+      case 1:
+        return this.provider.street;
+      default:
+        return super.getBoundFormElement(index);
+    }
+  }
+
+  @Override
+  protected DominoV2MessageElementWrapper getMessageElementWrapper(String fieldId) {
+    if (Objects.isNull(fieldId)) {
+      return null;
+    }
+    switch (fieldId) {
+      case "name":
+        return super.getBoundMessageElementWrapper(0);
+      case "street":
+        return super.getBoundMessageElementWrapper(1);
+      default:
+        return super.getMessageElementWrapper(fieldId);
+    }
+  }
+
+}
@@ -0,0 +1,21 @@
+package io.github.nalukit.domino.v2.message.binding.client.handling;
+
+import io.github.nalukit.domino.v2.message.binding.client.stub.StubEnvironment;
+import io.github.nalukit.domino.v2.message.binding.client.stub.StubFormElement;
+
+/**
+ * Form with two fields: <code>name</code> and <code>street</code>
+ */
+public class TestMessageProvider
+    implements IsDominoV2MessageProvider {
+
+  StubFormElement name;
+  StubFormElement street;
+
+  public TestMessageProvider() {
+    StubEnvironment.init();
+    this.name = StubFormElement.create();
+    this.street = StubFormElement.create();
+  }
+
+}
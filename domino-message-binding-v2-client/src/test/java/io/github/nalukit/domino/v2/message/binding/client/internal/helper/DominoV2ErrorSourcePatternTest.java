@@ -0,0 +1,120 @@
+package io.github.nalukit.domino.v2.message.binding.client.internal.helper;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DominoV2ErrorSourcePatternTest {
+
+  @Test
+  public void singleSegment() {
+    DominoV2ErrorSourcePattern pattern = DominoV2ErrorSourcePattern.compile("items[*].price");
+
+    assertTrue(pattern.matches("items[3].price"));
+    assertTrue(pattern.matches("items[].price"));
+    assertFalse(pattern.matches("items[3].sub.price"));
+    assertFalse(pattern.matches("items[3].priceList"));
+  }
+
+  @Test
+  public void anySegment() {
+    DominoV2ErrorSourcePattern pattern = DominoV2ErrorSourcePattern.compile("billing.**");
+
+    assertTrue(pattern.matches("billing."));
+    assertTrue(pattern.matches("billing.address.street"));
+    assertFalse(pattern.matches("shipping.address"));
+    assertTrue(DominoV2ErrorSourcePattern.compile("**.street")
+                                         .matches("billing.address.street"));
+    assertTrue(DominoV2ErrorSourcePattern.compile("a.**.*.c")
+                                         .matches("a.x.y.z.c"));
+    assertFalse(DominoV2ErrorSourcePattern.compile("a.*.c")
+                                          .matches("a.x.y.c"));
+  }
+
+  @Test
+  public void noExponentialBacktracking() {
+    StringBuilder pattern = new StringBuilder();
+    StringBuilder fieldId = new StringBuilder();
+    for (int i = 0; i < 30; i++) {
+      pattern.append("*a");
+      fieldId.append("aa");
+    }
+    pattern.append("b");
+    // the recursive matcher needed minutes for this
+    assertFalse(DominoV2ErrorSourcePattern.compile(pattern.toString())
+                                          .matches(fieldId.toString()));
+    assertFalse(DominoV2ErrorSourcePattern.compile(pattern.toString()
+                                                          .replace("*",
+                                                                   "**"))
+                                          .matches(fieldId.toString()));
+  }
+
+  @Test
+  public void sameResultAsBacktracking() {
+    Random random = new Random(42);
+    String patternChars = "ab.*";
+    String fieldIdChars = "ab.";
+    for (int n = 0; n < 20000; n++) {
+      String pattern = "x" + random(random,
+                                    patternChars,
+                                    8) + "*";
+      String fieldId = "x" + random(random,
+                                    fieldIdChars,
+                                    10);
+      assertEquals(pattern + " / " + fieldId,
+                   backtrack(pattern,
+                             0,
+                             fieldId,
+                             0),
+                   DominoV2ErrorSourcePattern.compile(pattern)
+                                             .matches(fieldId));
+    }
+  }
+
+  private static String random(Random random,
+                               String chars,
+                               int maxLength) {
+    StringBuilder sb = new StringBuilder();
+    int length = random.nextInt(maxLength + 1);
+    for (int i = 0; i < length; i++) {
+      sb.append(chars.charAt(random.nextInt(chars.length())));
+    }
+    return sb.toString();
+  }
+
+  /* reference: tries every split of the field id at every wildcard */
+  private static boolean backtrack(String pattern,
+                                   int patternIndex,
+                                   String fieldId,
+                                   int fieldIdIndex) {
+    if (patternIndex == pattern.length()) {
+      return fieldIdIndex == fieldId.length();
+    }
+    char c = pattern.charAt(patternIndex);
+    if (c == '*') {
+      boolean anySegment = patternIndex + 1 < pattern.length() && pattern.charAt(patternIndex + 1) == '*';
+      int next = anySegment ? patternIndex + 2 : patternIndex + 1;
+      for (int i = fieldIdIndex; i <= fieldId.length(); i++) {
+        if (backtrack(pattern,
+                      next,
+                      fieldId,
+                      i)) {
+          return true;
+        }
+        if (i < fieldId.length() && !anySegment && fieldId.charAt(i) == '.') {
+          return false;
+        }
+      }
+      return false;
+    }
+    return fieldIdIndex < fieldId.length() && fieldId.charAt(fieldIdIndex) == c && backtrack(pattern,
+                                                                                           patternIndex + 1,
+                                                                                           fieldId,
+                                                                                           fieldIdIndex + 1);
+  }
+
+}
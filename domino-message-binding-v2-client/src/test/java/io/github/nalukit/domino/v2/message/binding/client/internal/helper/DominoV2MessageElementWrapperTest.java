@@ -0,0 +1,66 @@
+package io.github.nalukit.domino.v2.message.binding.client.internal.helper;
+
+import io.github.nalukit.domino.v2.message.binding.client.TestMessage;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class DominoV2MessageElementWrapperTest {
+
+  @Test
+  public void dropsExactDuplicates() {
+    DominoV2MessageElementWrapper wrapper = new DominoV2MessageElementWrapper(null,
+                                                                              "name");
+
+    assertTrue(wrapper.addPendingMessage(new TestMessage("required",
+                                                         "Name is required",
+                                                         "name")));
+    assertFalse(wrapper.addPendingMessage(new TestMessage("required",
+                                                          "Name is required",
+                                                          "name")));
+    assertEquals(1,
+                 wrapper.getPendingMessages()
+                        .size());
+  }
+
+  @Test
+  public void keepsMessagesWithSameIdAndDifferentText() {
+    DominoV2MessageElementWrapper wrapper = new DominoV2MessageElementWrapper(null,
+                                                                              "amount");
+
+    assertTrue(wrapper.addPendingMessage(new TestMessage("range",
+                                                         "Value must be at least 1",
+                                                         "amount")));
+    assertTrue(wrapper.addPendingMessage(new TestMessage("range",
+                                                         "Value must be at most 10",
+                                                         "amount")));
+    assertEquals(2,
+                 wrapper.getPendingMessages()
+                        .size());
+  }
+
+  @Test
+  public void keepsMessagesWithSameIdAndDifferentArguments() {
+    DominoV2MessageElementWrapper wrapper = new DominoV2MessageElementWrapper(null,
+                                                                              "amount");
+
+    assertTrue(wrapper.addPendingMessage(new TestMessage("range",
+                                                         null,
+                                                         "amount").withArguments("1",
+                                                                                 "10")));
+    assertTrue(wrapper.addPendingMessage(new TestMessage("range",
+                                                         null,
+                                                         "amount").withArguments("5",
+                                                                                 "20")));
+    assertFalse(wrapper.addPendingMessage(new TestMessage("range",
+                                                          null,
+                                                          "amount").withArguments("5",
+                                                                                  "20")));
+    assertEquals(2,
+                 wrapper.getPendingMessages()
+                        .size());
+  }
+
+}
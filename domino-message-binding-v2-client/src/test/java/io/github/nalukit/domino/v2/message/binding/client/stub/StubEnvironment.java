@@ -0,0 +1,65 @@
+package io.github.nalukit.domino.v2.message.binding.client.stub;
+
+import elemental2.dom.DomGlobal;
+import elemental2.webstorage.Storage;
+import elemental2.webstorage.WebStorageWindow;
+
+/**
+ * Prepares the JVM to load Domino-UI classes.
+ * <p>
+ * The static initializer of <code>BaseDominoElement</code> reads the user
+ * themes from the local storage of the window. On the JVM there is no window,
+ * so a window with an empty local storage is installed. Must be called before
+ * the first form element class is loaded.
+ */
+public class StubEnvironment {
+
+  /* name of a theme that does not exist -> no theme is applied */
+  private final static String NO_THEME = "none";
+
+  private static boolean initialized;
+
+  private StubEnvironment() {
+  }
+
+  public static void init() {
+    if (initialized) {
+      return;
+    }
+    WebStorageWindow window = new WebStorageWindow();
+    window.localStorage = new Storage() {
+
+      @Override
+      public void clear() {
+      }
+
+      @Override
+      public String getItem(String key) {
+        return StubEnvironment.NO_THEME;
+      }
+
+      @Override
+      public int getLength() {
+        return 0;
+      }
+
+      @Override
+      public String key(int index) {
+        return null;
+      }
+
+      @Override
+      public void removeItem(String key) {
+      }
+
+      @Override
+      public void setItem(String key,
+                          String value) {
+      }
+
+    };
+    DomGlobal.window = window;
+    initialized = true;
+  }
+
+}
@@ -0,0 +1,49 @@
+package io.github.nalukit.domino.v2.message.binding.client.stub;
+
+import elemental2.dom.EventListener;
+import elemental2.dom.HTMLFieldSetElement;
+
+import java.util.Objects;
+
+/**
+ * Stand-in for the root element of a form element.
+ * <p>
+ * Only counts the listeners and keeps the last one added, so a test can
+ * fire it. There is no DOM on the JVM.
+ */
+public class StubFieldSetElement
+    extends HTMLFieldSetElement {
+
+  private int           listenerCount;
+  private EventListener listener;
+
+  @Override
+  public void addEventListener(String type,
+                               EventListener listener) {
+    this.listenerCount++;
+    this.listener = listener;
+  }
+
+  @Override
+  public void removeEventListener(String type,
+                                  EventListener listener) {
+    this.listenerCount--;
+    if (this.listener == listener) {
+      this.listener = null;
+    }
+  }
+
+  public int getListenerCount() {
+    return listenerCount;
+  }
+
+  /**
+   * Fires the last listener added, f.e. to simulate a blur
+   */
+  public void fire() {
+    if (!Objects.isNull(this.listener)) {
+      this.listener.handleEvent(null);
+    }
+  }
+
+}
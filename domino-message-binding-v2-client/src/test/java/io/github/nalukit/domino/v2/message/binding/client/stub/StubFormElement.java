@@ -0,0 +1,163 @@
+package io.github.nalukit.domino.v2.message.binding.client.stub;
+
+import org.dominokit.domino.ui.forms.AbstractFormElement;
+import org.dominokit.domino.ui.forms.AutoValidator;
+import org.dominokit.domino.ui.utils.ApplyFunction;
+import org.objenesis.ObjenesisStd;
+import org.objenesis.instantiator.ObjectInstantiator;
+
+import java.util.List;
+
+/**
+ * Lightweight stand-in for a Domino-UI form element.
+ * <p>
+ * The constructor of <code>AbstractFormElement</code> builds the DOM of the
+ * element and can not run on the JVM (the elements are cast to JavaScript
+ * types). Instances are therefore created by Objenesis without running any
+ * constructor. The methods used by the message driver are overridden and
+ * only record the last state, so a test or benchmark measures the driver
+ * and not the (missing) DOM.
+ * <p>
+ * Call {@link StubEnvironment#init()} before using this class.
+ */
+public class StubFormElement
+    extends AbstractFormElement<StubFormElement, String> {
+
+  private final static ObjectInstantiator<StubFormElement> INSTANTIATOR = new ObjenesisStd().getInstantiatorOf(StubFormElement.class);
+
+  private StubFieldSetElement element;
+  private String              errorMessage;
+  private int                 writeCount;
+
+  /* never called - instances are created by create() */
+  private StubFormElement() {
+    super();
+  }
+
+  /**
+   * Creates a new stand-in
+   *
+   * @return new stand-in
+   */
+  public static StubFormElement create() {
+    StubFormElement formElement = StubFormElement.INSTANTIATOR.newInstance();
+    formElement.element = new StubFieldSetElement();
+    return formElement;
+  }
+
+  public String getErrorMessage() {
+    return errorMessage;
+  }
+
+  public int getWriteCount() {
+    return writeCount;
+  }
+
+  @Override
+  public StubFieldSetElement element() {
+    return this.element;
+  }
+
+  @Override
+  public StubFormElement invalidate(String errorMessage) {
+    this.errorMessage = errorMessage;
+    this.writeCount++;
+    return this;
+  }
+
+  @Override
+  public StubFormElement invalidate(List<String> errorMessages) {
+    this.errorMessage = errorMessages.isEmpty() ? null : errorMessages.get(0);
+    this.writeCount++;
+    return this;
+  }
+
+  @Override
+  public StubFormElement clearInvalid() {
+    this.errorMessage = null;
+    this.writeCount++;
+    return this;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return true;
+  }
+
+  @Override
+  public boolean isEmptyIgnoreSpaces() {
+    return true;
+  }
+
+  @Override
+  public StubFormElement clear() {
+    return this;
+  }
+
+  @Override
+  public StubFormElement clear(boolean silent) {
+    return this;
+  }
+
+  @Override
+  public String getValue() {
+    return null;
+  }
+
+  @Override
+  public void setValue(String value) {
+  }
+
+  @Override
+  public boolean isEnabled() {
+    return true;
+  }
+
+  @Override
+  public String getName() {
+    return null;
+  }
+
+  @Override
+  public StubFormElement setName(String name) {
+    return this;
+  }
+
+  @Override
+  public String getType() {
+    return null;
+  }
+
+  @Override
+  public StubFormElement withValue(String value) {
+    return this;
+  }
+
+  @Override
+  public StubFormElement withValue(String value,
+                                   boolean silent) {
+    return this;
+  }
+
+  @Override
+  public String getDefaultValue() {
+    return null;
+  }
+
+  @Override
+  public AutoValidator createAutoValidator(ApplyFunction autoValidate) {
+    return null;
+  }
+
+  @Override
+  public StubFormElement triggerChangeListeners(String oldValue,
+                                                String newValue) {
+    return this;
+  }
+
+  @Override
+  public StubFormElement triggerClearListeners(String oldValue) {
+    return this;
+  }
+
+}
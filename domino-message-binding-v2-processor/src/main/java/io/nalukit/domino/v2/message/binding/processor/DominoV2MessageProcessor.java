@@ -17,17 +17,26 @@
 package io.nalukit.domino.v2.message.binding.processor;
 
 import com.google.auto.service.AutoService;
+import com.squareup.javapoet.ArrayTypeName;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.TypeVariableName;
+import com.squareup.javapoet.WildcardTypeName;
 import io.github.nalukit.domino.v2.message.binding.client.handling.AbstractDominoV2MessageDriver;
+import io.github.nalukit.domino.v2.message.binding.client.handling.DominoV2MessageDriverMetadata;
 import io.github.nalukit.domino.v2.message.binding.client.handling.IsDominoV2MessageDriver;
 import io.github.nalukit.domino.v2.message.binding.client.handling.annotation.DominoV2MessagePresenter;
 import io.github.nalukit.domino.v2.message.binding.client.handling.annotation.HasDominoV2MessageDriverSupport;
 import io.github.nalukit.domino.v2.message.binding.client.internal.helper.DominoV2MessageElementWrapper;
+import org.dominokit.domino.ui.events.EventType;
 import org.dominokit.domino.ui.forms.AbstractFormElement;
+import org.dominokit.domino.ui.forms.HasInputElement;
 
 import javax.annotation.processing.AbstractProcessor;
 import javax.annotation.processing.ProcessingEnvironment;
@@ -36,17 +45,25 @@ import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
-import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.JavaFileObject;
 import java.io.IOException;
+import java.io.Writer;
 import java.lang.annotation.Annotation;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.stream.Collectors.toSet;
@@ -58,9 +75,21 @@ public class DominoV2MessageProcessor
 
   private final static String IMPL_NAME = "MessageDriverImpl";
 
+  private final static String ABSTRACT_NAME = "MessageDriver";
+
+  /* maximum number of fields handled by one generated method - keeps the methods below 64 KB of byte code */
+  private final static int CHUNK_SIZE = 500;
+
+  /* processor option: -Adomino.message.binding.stats=true reports timings and counts as notes */
+  final static String STATISTICS_OPTION = "domino.message.binding.stats";
+
   private DominoV2MessageProcessorUtils dominoV2MessageProcessorUtils;
 
-  private Map<Element, List<VariableElement>> messagePresenterAnnotatedElements;
+  /* providers of the current round -> annotated elements (cleared every round) */
+  private Map<Element, List<Element>> messagePresenterAnnotatedElements;
+
+  /* null, in case the statistics option is not set */
+  private DominoV2MessageProcessorStatistics statistics;
 
   public DominoV2MessageProcessor() {
     super();
@@ -76,6 +105,11 @@ public class DominoV2MessageProcessor
     return of(HasDominoV2MessageDriverSupport.class.getCanonicalName()).collect(toSet());
   }
 
+  @Override
+  public Set<String> getSupportedOptions() {
+    return of(DominoV2MessageProcessor.STATISTICS_OPTION).collect(toSet());
+  }
+
   @Override
   public synchronized void init(ProcessingEnvironment processingEnv) {
     super.init(processingEnv);
@@ -85,20 +119,44 @@ public class DominoV2MessageProcessor
   @Override
   public boolean process(Set<? extends TypeElement> annotations,
                          RoundEnvironment roundEnv) {
+    // drivers generated in an earlier round must not be generated again
+    this.messagePresenterAnnotatedElements.clear();
     try {
       if (!roundEnv.processingOver()) {
+        if (!Objects.isNull(this.statistics)) {
+          this.statistics.beginRound();
+        }
         if (!annotations.isEmpty()) {
           for (TypeElement annotation : annotations) {
             if (HasDominoV2MessageDriverSupport.class.getCanonicalName()
                                              .equals(annotation.toString())) {
+              long start = Objects.isNull(this.statistics) ? 0 : System.nanoTime();
               handleHasMessageDriverSupportAnnotation(roundEnv);
+              if (!Objects.isNull(this.statistics)) {
+                long end = System.nanoTime();
+                this.statistics.validated(this.messagePresenterAnnotatedElements.size(),
+                                          this.messagePresenterAnnotatedElements.values()
+                                                                                .stream()
+                                                                                .mapToInt(List::size)
+                                                                                .sum(),
+                                          end - start);
+                start = end;
+              }
               for (Element k : this.messagePresenterAnnotatedElements.keySet()) {
                 this.generateDriver(k,
                                     this.messagePresenterAnnotatedElements.get(k));
               }
+              if (!Objects.isNull(this.statistics)) {
+                this.statistics.generated(System.nanoTime() - start);
+              }
             }
           }
         }
+        if (!Objects.isNull(this.statistics)) {
+          this.statistics.endRound();
+        }
+      } else if (!Objects.isNull(this.statistics)) {
+        this.statistics.finish();
       }
     } catch (DominoV2MessageProcessorException e) {
       this.dominoV2MessageProcessorUtils.createErrorMessage(e.getMessage());
@@ -107,16 +165,417 @@ public class DominoV2MessageProcessor
     return true;
   }
 
+  /**
+   * Generates the drivers of a provider:
+   * <ul>
+   * <li>Abstract&lt;Provider&gt;MessageDriver: binds the fields declared by the provider.
+   * In case a super class of the provider has driver support, the class extends
+   * the abstract driver of the super class and only binds the additional fields.</li>
+   * <li>&lt;Provider&gt;MessageDriverImpl: the driver of the provider.</li>
+   * </ul>
+   *
+   * @param annotatedElement  the provider
+   * @param presenterElements all elements of the provider annotated with DominoV2MessagePresenter
+   * @throws DominoV2MessageProcessorException in case of an error
+   */
   private void generateDriver(Element annotatedElement,
-                              List<VariableElement> variableElements)
+                              List<Element> presenterElements)
+      throws DominoV2MessageProcessorException {
+    TypeElement providerElement = (TypeElement) annotatedElement;
+    TypeElement parentProviderElement = this.getParentProvider(providerElement);
+    // fields bound by the drivers of the super classes
+    List<Element> inheritedPresenterElements = Objects.isNull(parentProviderElement) ?
+                                               new ArrayList<>() :
+                                               this.getElemntsFromTypeElementAnnotatedWith(parentProviderElement);
+    List<Element> ownPresenterElements = new ArrayList<>(presenterElements);
+    ownPresenterElements.removeAll(inheritedPresenterElements);
+    // the field ids have to be unique within the whole hierarchy
+    List<Element> hierarchyPresenterElements = new ArrayList<>(inheritedPresenterElements);
+    hierarchyPresenterElements.addAll(ownPresenterElements);
+    List<String> usedFieldIds = new ArrayList<>();
+    for (Element presenterElement : hierarchyPresenterElements) {
+      String messagePresenterId = presenterElement.getAnnotation(DominoV2MessagePresenter.class)
+                                                  .value();
+      if (usedFieldIds.contains(messagePresenterId)) {
+        throw new DominoV2MessageProcessorException("Nalu-Message-Processor: MessagePresenter-ID >>" +
+                                                    messagePresenterId +
+                                                    "<< is not unique!");
+      }
+      usedFieldIds.add(messagePresenterId);
+    }
+    this.generateAbstractDriver(providerElement,
+                                parentProviderElement,
+                                ownPresenterElements);
+    this.generateDriverImpl(providerElement);
+  }
+
+  private void generateAbstractDriver(TypeElement providerElement,
+                                      TypeElement parentProviderElement,
+                                      List<Element> presenterElements)
+      throws DominoV2MessageProcessorException {
+    TypeVariableName providerType = TypeVariableName.get("P",
+                                                         ClassName.get(providerElement));
+    ClassName abstractDriverName = this.getAbstractDriverName(providerElement);
+    ClassName parentAbstractDriverName = Objects.isNull(parentProviderElement) ? null : this.getAbstractDriverName(parentProviderElement);
+    TypeSpec.Builder typeSpec = TypeSpec.classBuilder(abstractDriverName)
+                                        .addModifiers(Modifier.PUBLIC,
+                                                      Modifier.ABSTRACT)
+                                        .addTypeVariable(providerType)
+                                        .superclass(ParameterizedTypeName.get(Objects.isNull(parentAbstractDriverName) ?
+                                                                              ClassName.get(AbstractDominoV2MessageDriver.class) :
+                                                                              parentAbstractDriverName,
+                                                                              providerType))
+                                        // isolating: the driver depends on the provider (and its super classes) only
+                                        .addOriginatingElement(providerElement);
+    if (Objects.isNull(parentAbstractDriverName)) {
+      typeSpec.addField(providerType,
+                        "provider",
+                        Modifier.PROTECTED);
+    }
+
+    // ordinals of the fields of this class start after the fields of the super classes
+    String offset = Objects.isNull(parentAbstractDriverName) ? "" : parentAbstractDriverName.simpleName() + ".FIELD_COUNT + ";
+    String indexOffset = Objects.isNull(parentAbstractDriverName) ? "" : " - " + parentAbstractDriverName.simpleName() + ".FIELD_COUNT";
+    TypeMirror hasInputElementTypeMirror = this.processingEnv.getElementUtils()
+                                                             .getTypeElement(HasInputElement.class.getCanonicalName())
+                                                             .asType();
+    // code per field - split into chunks in case of large providers
+    List<CodeBlock> fieldIds = new ArrayList<>();
+    List<CodeBlock> fieldKinds = new ArrayList<>();
+    List<CodeBlock> formElementCases = new ArrayList<>();
+    List<CodeBlock> registerStatements = new ArrayList<>();
+    List<CodeBlock> deregisterStatements = new ArrayList<>();
+    List<CodeBlock> dispatchCases = new ArrayList<>();
+    for (int i = 0; i < presenterElements.size(); i++) {
+      Element presenterElement = presenterElements.get(i);
+      String messagePresenterId = presenterElement.getAnnotation(DominoV2MessagePresenter.class)
+                                                  .value();
+      fieldIds.add(CodeBlock.of("$S",
+                                messagePresenterId));
+      fieldKinds.add(CodeBlock.of("$T.$L",
+                                  ClassName.get(DominoV2MessageDriverMetadata.FieldKind.class),
+                                  this.getFieldKind(presenterElement)));
+      String accessor = this.getAccessor(presenterElement);
+      // form elements are read the first time a wrapper is needed
+      formElementCases.add(CodeBlock.builder()
+                                    .add("case $L:\n",
+                                         i)
+                                    .indent()
+                                    .addStatement("return this.provider.$L",
+                                                  accessor)
+                                    .unindent()
+                                    .build());
+      // blur handling specialized for the type of each field
+      if (this.dominoV2MessageProcessorUtils.extendsClassOrInterface(this.processingEnv.getTypeUtils(),
+                                                                     this.getFormElementType(presenterElement),
+                                                                     hasInputElementTypeMirror)) {
+        registerStatements.add(CodeBlock.builder()
+                                        .addStatement("this.provider.$L.getInputElement().addEventListener($T.blur, super.createBlurEventListener($L$L))",
+                                                      accessor,
+                                                      ClassName.get(EventType.class),
+                                                      offset,
+                                                      i)
+                                        .build());
+        deregisterStatements.add(CodeBlock.builder()
+                                          .addStatement("this.provider.$L.getInputElement().removeEventListener($T.blur, super.releaseBlurEventListener($L$L))",
+                                                        accessor,
+                                                        ClassName.get(EventType.class),
+                                                        offset,
+                                                        i)
+                                          .build());
+      } else {
+        // no input element (f.e. RadioGroup): focusout bubbles from the inner inputs
+        registerStatements.add(CodeBlock.builder()
+                                        .addStatement("this.provider.$L.element().addEventListener($T.FOCUS_OUT, super.createBlurEventListener($L$L))",
+                                                      accessor,
+                                                      ClassName.get(AbstractDominoV2MessageDriver.class),
+                                                      offset,
+                                                      i)
+                                        .build());
+        deregisterStatements.add(CodeBlock.builder()
+                                          .addStatement("this.provider.$L.element().removeEventListener($T.FOCUS_OUT, super.releaseBlurEventListener($L$L))",
+                                                        accessor,
+                                                        ClassName.get(AbstractDominoV2MessageDriver.class),
+                                                        offset,
+                                                        i)
+                                          .build());
+      }
+      dispatchCases.add(CodeBlock.builder()
+                                 .add("case $S:\n",
+                                      messagePresenterId)
+                                 .indent()
+                                 .addStatement("return super.getBoundMessageElementWrapper($L$L)",
+                                               offset,
+                                               i)
+                                 .unindent()
+                                 .build());
+    }
+    // more fields than fit into one method (64 KB of byte code): the code is split into chunks
+    boolean chunked = presenterElements.size() > DominoV2MessageProcessor.CHUNK_SIZE;
+    int chunkCount = (presenterElements.size() + DominoV2MessageProcessor.CHUNK_SIZE - 1) / DominoV2MessageProcessor.CHUNK_SIZE;
+
+    // blur handling: adds the listeners to the fields of this class and of the super classes, independent of clearOnBlur
+    String registerElementsName = this.getRegisterElementsName(providerElement);
+    String deregisterElementsName = this.getDeregisterElementsName(providerElement);
+    MethodSpec.Builder registerMethod = MethodSpec.methodBuilder(registerElementsName)
+                                                  .addModifiers(Modifier.PROTECTED,
+                                                                Modifier.FINAL);
+    MethodSpec.Builder deregisterMethod = MethodSpec.methodBuilder(deregisterElementsName)
+                                                    .addModifiers(Modifier.PROTECTED,
+                                                                  Modifier.FINAL);
+    if (!Objects.isNull(parentAbstractDriverName)) {
+      registerMethod.addStatement("super.$L()",
+                                  this.getRegisterElementsName(parentProviderElement));
+      deregisterMethod.addStatement("super.$L()",
+                                    this.getDeregisterElementsName(parentProviderElement));
+    }
+    if (chunked) {
+      for (int chunk = 0; chunk < chunkCount; chunk++) {
+        registerMethod.addStatement("this.$LChunk$L()",
+                                    registerElementsName,
+                                    chunk);
+        deregisterMethod.addStatement("this.$LChunk$L()",
+                                      deregisterElementsName,
+                                      chunk);
+        typeSpec.addMethod(MethodSpec.methodBuilder(registerElementsName + "Chunk" + chunk)
+                                     .addModifiers(Modifier.PRIVATE)
+                                     .addCode(CodeBlock.join(this.getChunk(registerStatements,
+                                                                           chunk),
+                                                             ""))
+                                     .build());
+        typeSpec.addMethod(MethodSpec.methodBuilder(deregisterElementsName + "Chunk" + chunk)
+                                     .addModifiers(Modifier.PRIVATE)
+                                     .addCode(CodeBlock.join(this.getChunk(deregisterStatements,
+                                                                           chunk),
+                                                             ""))
+                                     .build());
+      }
+    } else {
+      registerMethod.addCode(CodeBlock.join(registerStatements,
+                                            ""));
+      deregisterMethod.addCode(CodeBlock.join(deregisterStatements,
+                                              ""));
+    }
+    typeSpec.addMethod(registerMethod.build());
+    typeSpec.addMethod(deregisterMethod.build());
+    // the policy of this class decides (also for the fields of the super classes) - no check at runtime
+    boolean clearOnBlur = providerElement.getAnnotation(HasDominoV2MessageDriverSupport.class)
+                                         .clearOnBlur();
+    MethodSpec.Builder registerBoundMessageElementsMethod = MethodSpec.methodBuilder("registerBoundMessageElements")
+                                                                      .addAnnotation(ClassName.get(Override.class))
+                                                                      .addModifiers(Modifier.PROTECTED);
+    MethodSpec.Builder deregisterBoundMessageElementsMethod = MethodSpec.methodBuilder("deregisterBoundMessageElements")
+                                                                        .addAnnotation(ClassName.get(Override.class))
+                                                                        .addModifiers(Modifier.PROTECTED);
+    if (clearOnBlur) {
+      registerBoundMessageElementsMethod.addStatement("this.$L()",
+                                                      registerElementsName);
+      deregisterBoundMessageElementsMethod.addStatement("this.$L()",
+                                                        deregisterElementsName);
+    }
+    typeSpec.addMethod(registerBoundMessageElementsMethod.build());
+    typeSpec.addMethod(deregisterBoundMessageElementsMethod.build());
+
+    // static metadata of the whole hierarchy, shared by all driver instances
+    if (chunked) {
+      // the arrays are filled by one method per chunk - the static initializer would be too large
+      MethodSpec.Builder createMetadataMethod = MethodSpec.methodBuilder("createMetadata")
+                                                          .addModifiers(Modifier.PRIVATE,
+                                                                        Modifier.STATIC)
+                                                          .returns(ClassName.get(DominoV2MessageDriverMetadata.class))
+                                                          .addStatement("$T[] fieldIds = new $T[$L]",
+                                                                        ClassName.get(String.class),
+                                                                        ClassName.get(String.class),
+                                                                        presenterElements.size())
+                                                          .addStatement("$T[] fieldKinds = new $T[$L]",
+                                                                        ClassName.get(DominoV2MessageDriverMetadata.FieldKind.class),
+                                                                        ClassName.get(DominoV2MessageDriverMetadata.FieldKind.class),
+                                                                        presenterElements.size());
+      for (int chunk = 0; chunk < chunkCount; chunk++) {
+        createMetadataMethod.addStatement("createMetadataChunk$L(fieldIds, fieldKinds)",
+                                          chunk);
+        MethodSpec.Builder chunkMethod = MethodSpec.methodBuilder("createMetadataChunk" + chunk)
+                                                   .addModifiers(Modifier.PRIVATE,
+                                                                 Modifier.STATIC)
+                                                   .addParameter(String[].class,
+                                                                 "fieldIds")
+                                                   .addParameter(ArrayTypeName.of(ClassName.get(DominoV2MessageDriverMetadata.FieldKind.class)),
+                                                                 "fieldKinds");
+        for (int i = chunk * DominoV2MessageProcessor.CHUNK_SIZE; i < Math.min((chunk + 1) * DominoV2MessageProcessor.CHUNK_SIZE,
+                                                                               presenterElements.size()); i++) {
+          chunkMethod.addStatement("fieldIds[$L] = $L",
+                                   i,
+                                   fieldIds.get(i))
+                     .addStatement("fieldKinds[$L] = $L",
+                                   i,
+                                   fieldKinds.get(i));
+        }
+        typeSpec.addMethod(chunkMethod.build());
+      }
+      if (Objects.isNull(parentAbstractDriverName)) {
+        createMetadataMethod.addStatement("return $T.of($L, fieldIds, fieldKinds)",
+                                          ClassName.get(DominoV2MessageDriverMetadata.class),
+                                          clearOnBlur);
+      } else {
+        createMetadataMethod.addStatement("return $T.METADATA.extend($L, fieldIds, fieldKinds)",
+                                          parentAbstractDriverName,
+                                          clearOnBlur);
+      }
+      typeSpec.addMethod(createMetadataMethod.build());
+      typeSpec.addField(FieldSpec.builder(ClassName.get(DominoV2MessageDriverMetadata.class),
+                                          "METADATA",
+                                          Modifier.PROTECTED,
+                                          Modifier.STATIC,
+                                          Modifier.FINAL)
+                                 .initializer("createMetadata()")
+                                 .build());
+    } else {
+      CodeBlock metadataFieldIds = this.createArray(ClassName.get(String.class),
+                                                    CodeBlock.join(fieldIds,
+                                                                   ",\n"));
+      CodeBlock metadataFieldKinds = this.createArray(ClassName.get(DominoV2MessageDriverMetadata.FieldKind.class),
+                                                      CodeBlock.join(fieldKinds,
+                                                                     ",\n"));
+      if (Objects.isNull(parentAbstractDriverName)) {
+        typeSpec.addField(FieldSpec.builder(ClassName.get(DominoV2MessageDriverMetadata.class),
+                                            "METADATA",
+                                            Modifier.PROTECTED,
+                                            Modifier.STATIC,
+                                            Modifier.FINAL)
+                                   .initializer("$T.of($L,\n$>$L,\n$L$<)",
+                                                ClassName.get(DominoV2MessageDriverMetadata.class),
+                                                clearOnBlur,
+                                                metadataFieldIds,
+                                                metadataFieldKinds)
+                                   .build());
+      } else {
+        typeSpec.addField(FieldSpec.builder(ClassName.get(DominoV2MessageDriverMetadata.class),
+                                            "METADATA",
+                                            Modifier.PROTECTED,
+                                            Modifier.STATIC,
+                                            Modifier.FINAL)
+                                   .initializer("$T.METADATA.extend($L,\n$>$L,\n$L$<)",
+                                                parentAbstractDriverName,
+                                                clearOnBlur,
+                                                metadataFieldIds,
+                                                metadataFieldKinds)
+                                   .build());
+      }
+    }
+    if (Objects.isNull(parentAbstractDriverName)) {
+      typeSpec.addField(FieldSpec.builder(TypeName.INT,
+                                          "FIELD_COUNT",
+                                          Modifier.PROTECTED,
+                                          Modifier.STATIC,
+                                          Modifier.FINAL)
+                                 .initializer("$L",
+                                              presenterElements.size())
+                                 .build());
+    } else {
+      typeSpec.addField(FieldSpec.builder(TypeName.INT,
+                                          "FIELD_COUNT",
+                                          Modifier.PROTECTED,
+                                          Modifier.STATIC,
+                                          Modifier.FINAL)
+                                 .initializer("$T.FIELD_COUNT + $L",
+                                              parentAbstractDriverName,
+                                              presenterElements.size())
+                                 .build());
+    }
+
+    if (!presenterElements.isEmpty()) {
+      MethodSpec.Builder formElementMethod = MethodSpec.methodBuilder("getBoundFormElement")
+                                                       .addAnnotation(ClassName.get(Override.class))
+                                                       .addModifiers(Modifier.PROTECTED)
+                                                       .returns(ParameterizedTypeName.get(ClassName.get(AbstractFormElement.class),
+                                                                                          WildcardTypeName.subtypeOf(TypeName.OBJECT),
+                                                                                          WildcardTypeName.subtypeOf(TypeName.OBJECT)))
+                                                       .addParameter(TypeName.INT,
+                                                                     "index");
+      if (chunked) {
+        // the chunk methods fall back to the super class for ordinals of the super classes
+        CodeBlock.Builder chunks = CodeBlock.builder()
+                                            .beginControlFlow("switch ((index$L) / $L)",
+                                                              indexOffset,
+                                                              DominoV2MessageProcessor.CHUNK_SIZE);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+          chunks.add("case $L:\n",
+                     chunk)
+                .indent()
+                .addStatement("return this.getBoundFormElementChunk$L(index)",
+                              chunk)
+                .unindent();
+          typeSpec.addMethod(MethodSpec.methodBuilder("getBoundFormElementChunk" + chunk)
+                                       .addModifiers(Modifier.PRIVATE)
+                                       .returns(ParameterizedTypeName.get(ClassName.get(AbstractFormElement.class),
+                                                                          WildcardTypeName.subtypeOf(TypeName.OBJECT),
+                                                                          WildcardTypeName.subtypeOf(TypeName.OBJECT)))
+                                       .addParameter(TypeName.INT,
+                                                     "index")
+                                       .addCode(this.createFormElementSwitch(indexOffset,
+                                                                             this.getChunk(formElementCases,
+                                                                                           chunk)))
+                                       .build());
+        }
+        chunks.add("default:\n")
+              .indent()
+              .addStatement("return super.getBoundFormElement(index)")
+              .unindent()
+              .endControlFlow();
+        formElementMethod.addCode(chunks.build());
+      } else {
+        formElementMethod.addCode(this.createFormElementSwitch(indexOffset,
+                                                               formElementCases));
+      }
+      typeSpec.addMethod(formElementMethod.build());
+      MethodSpec.Builder dispatchMethod = MethodSpec.methodBuilder("getMessageElementWrapper")
+                                                    .addAnnotation(ClassName.get(Override.class))
+                                                    .addModifiers(Modifier.PROTECTED)
+                                                    .returns(ClassName.get(DominoV2MessageElementWrapper.class))
+                                                    .addParameter(ClassName.get(String.class),
+                                                                  "fieldId")
+                                                    .beginControlFlow("if ($T.isNull(fieldId))",
+                                                                      ClassName.get(Objects.class))
+                                                    .addStatement("return null")
+                                                    .endControlFlow();
+      if (chunked) {
+        // too large for a switch: the ordinal is taken from the hashed index of the metadata
+        dispatchMethod.addStatement("int ordinal = $T.METADATA.getOrdinal(fieldId)",
+                                    abstractDriverName)
+                      .beginControlFlow("if (ordinal != -1)")
+                      .addStatement("return super.getBoundMessageElementWrapper(ordinal)")
+                      .endControlFlow()
+                      .addStatement("return super.getMessageElementWrapper(fieldId)");
+      } else {
+        dispatchMethod.addCode(CodeBlock.builder()
+                                        .beginControlFlow("switch (fieldId)")
+                                        .add(CodeBlock.join(dispatchCases,
+                                                            ""))
+                                        .add("default:\n")
+                                        .indent()
+                                        .addStatement("return super.getMessageElementWrapper(fieldId)")
+                                        .unindent()
+                                        .endControlFlow()
+                                        .build());
+      }
+      typeSpec.addMethod(dispatchMethod.build());
+    }
+    this.writeFile(providerElement,
+                   typeSpec.build());
+  }
+
+  private void generateDriverImpl(TypeElement providerElement)
       throws DominoV2MessageProcessorException {
-    TypeSpec.Builder typeSpec = TypeSpec.classBuilder(annotatedElement.getSimpleName() + DominoV2MessageProcessor.IMPL_NAME)
-                                        .superclass(ParameterizedTypeName.get(ClassName.get(AbstractDominoV2MessageDriver.class),
-                                                                              ClassName.get((TypeElement) annotatedElement)))
+    ClassName abstractDriverName = this.getAbstractDriverName(providerElement);
+    TypeSpec.Builder typeSpec = TypeSpec.classBuilder(providerElement.getSimpleName() + DominoV2MessageProcessor.IMPL_NAME)
+                                        .superclass(ParameterizedTypeName.get(abstractDriverName,
+                                                                              ClassName.get(providerElement)))
                                         .addModifiers(Modifier.PUBLIC,
                                                       Modifier.FINAL)
                                         .addSuperinterface(ParameterizedTypeName.get(ClassName.get(IsDominoV2MessageDriver.class),
-                                                                                     ClassName.get((TypeElement) annotatedElement)));
+                                                                                     ClassName.get(providerElement)))
+                                        // isolating: the driver depends on the provider only
+                                        .addOriginatingElement(providerElement);
 
     MethodSpec constructor = MethodSpec.constructorBuilder()
                                        .addModifiers(Modifier.PUBLIC)
@@ -124,48 +583,146 @@ public class DominoV2MessageProcessor
                                        .build();
     typeSpec.addMethod(constructor);
 
-    List<String> usedFieldIds = new ArrayList<>();
-    MethodSpec.Builder initializeMethod = MethodSpec.methodBuilder("initialize")
-                                                    .addAnnotation(ClassName.get(Override.class))
-                                                    .addModifiers(Modifier.PUBLIC)
-                                                    .addParameter(ClassName.get((TypeElement) annotatedElement),
-                                                                  "provider");
-    HasDominoV2MessageDriverSupport hasMessageDriverSupportAnnotation = annotatedElement.getAnnotation(HasDominoV2MessageDriverSupport.class);
-    initializeMethod.addStatement("super.clearOnBlur = $L",
-                                  hasMessageDriverSupportAnnotation.clearOnBlur());
-    for (VariableElement variableElement : variableElements) {
-      String messagePresenterId = variableElement.getAnnotation(DominoV2MessagePresenter.class)
-                                                 .value();
-      if (usedFieldIds.contains(messagePresenterId)) {
-        throw new DominoV2MessageProcessorException("Nalu-Message-Processor: MessagePresenter-ID >>" +
-                                                    messagePresenterId +
-                                                    "<< is not unique!");
-      }
-      usedFieldIds.add(messagePresenterId);
-      initializeMethod.addStatement("super.messageElementWrappers.put($S, new $T(provider.$L, $S))",
-                                    messagePresenterId,
-                                    ClassName.get(DominoV2MessageElementWrapper.class),
-                                    variableElement.getSimpleName(),
-                                    variableElement.getAnnotation(DominoV2MessagePresenter.class)
-                                                   .value());
+    typeSpec.addMethod(MethodSpec.methodBuilder("initialize")
+                                 .addAnnotation(ClassName.get(Override.class))
+                                 .addModifiers(Modifier.PUBLIC)
+                                 .addParameter(ClassName.get(providerElement),
+                                               "provider")
+                                 .addStatement("super.provider = provider")
+                                 .addStatement("super.initializeBoundMessageElements($T.METADATA)",
+                                               abstractDriverName)
+                                 .build());
+    this.writeFile(providerElement,
+                   typeSpec.build());
+  }
+
+  private CodeBlock createFormElementSwitch(String indexOffset,
+                                            List<CodeBlock> cases) {
+    return CodeBlock.builder()
+                    .beginControlFlow("switch (index$L)",
+                                      indexOffset)
+                    .add(CodeBlock.join(cases,
+                                        ""))
+                    .add("default:\n")
+                    .indent()
+                    .addStatement("return super.getBoundFormElement(index)")
+                    .unindent()
+                    .endControlFlow()
+                    .build();
+  }
+
+  /**
+   * Returns the code of the fields of a chunk
+   *
+   * @param code  code per field
+   * @param chunk number of the chunk
+   * @return the code of the fields of the chunk
+   */
+  private List<CodeBlock> getChunk(List<CodeBlock> code,
+                                   int chunk) {
+    return code.subList(chunk * DominoV2MessageProcessor.CHUNK_SIZE,
+                        Math.min((chunk + 1) * DominoV2MessageProcessor.CHUNK_SIZE,
+                                 code.size()));
+  }
+
+  private CodeBlock createArray(TypeName componentType,
+                                CodeBlock elements) {
+    if (elements.isEmpty()) {
+      return CodeBlock.of("new $T[] {}",
+                          componentType);
     }
-    typeSpec.addMethod(initializeMethod.build());
+    return CodeBlock.of("new $T[] {\n$>$L$<\n}",
+                        componentType,
+                        elements);
+  }
 
-    JavaFile javaFile = JavaFile.builder(this.getPackageAsString(annotatedElement),
-                                         typeSpec.build())
+  private void writeFile(TypeElement providerElement,
+                         TypeSpec typeSpec)
+      throws DominoV2MessageProcessorException {
+    JavaFile javaFile = JavaFile.builder(this.getPackageAsString(providerElement),
+                                         typeSpec)
                                 .build();
     try {
 //      System.out.println(javaFile.toString());
-      javaFile.writeTo(this.processingEnv.getFiler());
+      if (Objects.isNull(this.statistics)) {
+        javaFile.writeTo(this.processingEnv.getFiler());
+      } else {
+        // render first: the time of the Filer write is reported separately
+        String fileName = javaFile.packageName.isEmpty() ? typeSpec.name : javaFile.packageName + "." + typeSpec.name;
+        String source = javaFile.toString();
+        long start = System.nanoTime();
+        JavaFileObject fileObject = this.processingEnv.getFiler()
+                                                      .createSourceFile(fileName,
+                                                                        typeSpec.originatingElements.toArray(new Element[0]));
+        try (Writer writer = fileObject.openWriter()) {
+          writer.write(source);
+        }
+        this.statistics.written(fileName,
+                                source.getBytes(StandardCharsets.UTF_8).length,
+                                System.nanoTime() - start);
+      }
     } catch (IOException e) {
       throw new DominoV2MessageProcessorException("Nalu-Message-Processor: Unable to write generated file: >>" +
-                                                  annotatedElement.getSimpleName() +
-                                                  DominoV2MessageProcessor.IMPL_NAME +
+                                                  typeSpec.name +
                                                   "<< -> exception: " +
                                                   e.getMessage());
     }
   }
 
+  /**
+   * Returns the name of the method adding the blur listeners to the fields
+   * of the provider and its super classes. The name contains the depth of the
+   * provider in the hierarchy of providers with driver support, so it is unique
+   * within the hierarchy (simple names of providers need not be).
+   *
+   * @param providerElement the provider
+   * @return name of the method
+   */
+  private String getRegisterElementsName(TypeElement providerElement) {
+    return "registerBoundMessageElements" + this.getDepth(providerElement);
+  }
+
+  private String getDeregisterElementsName(TypeElement providerElement) {
+    return "deregisterBoundMessageElements" + this.getDepth(providerElement);
+  }
+
+  /**
+   * Returns the number of super classes with driver support
+   *
+   * @param providerElement the provider
+   * @return the depth, 0 -&gt; no super class with driver support
+   */
+  private int getDepth(TypeElement providerElement) {
+    int depth = 0;
+    for (TypeElement parent = this.getParentProvider(providerElement); !Objects.isNull(parent); parent = this.getParentProvider(parent)) {
+      depth++;
+    }
+    return depth;
+  }
+
+  private ClassName getAbstractDriverName(TypeElement providerElement) {
+    return ClassName.get(this.getPackageAsString(providerElement),
+                         "Abstract" + providerElement.getSimpleName() + DominoV2MessageProcessor.ABSTRACT_NAME);
+  }
+
+  /**
+   * Returns the nearest super class having driver support
+   *
+   * @param providerElement the provider
+   * @return the super class or null
+   */
+  private TypeElement getParentProvider(TypeElement providerElement) {
+    TypeMirror superclass = providerElement.getSuperclass();
+    while (superclass.getKind() == TypeKind.DECLARED) {
+      TypeElement superElement = (TypeElement) ((DeclaredType) superclass).asElement();
+      if (!Objects.isNull(superElement.getAnnotation(HasDominoV2MessageDriverSupport.class))) {
+        return superElement;
+      }
+      superclass = superElement.getSuperclass();
+    }
+    return null;
+  }
+
   private void handleHasMessageDriverSupportAnnotation(RoundEnvironment roundEnv)
       throws DominoV2MessageProcessorException {
     for (Element annotatedElement : roundEnv.getElementsAnnotatedWith(HasDominoV2MessageDriverSupport.class)) {
@@ -174,9 +731,9 @@ public class DominoV2MessageProcessor
                                                  new ArrayList<>());
       List<Element> annotatedFields = this.getElemntsFromTypeElementAnnotatedWith((TypeElement) annotatedElement);
       for (Element e : annotatedFields) {
-        validateVariableElement(e);
+        validatePresenterElement(e);
         this.messagePresenterAnnotatedElements.get(annotatedElement)
-                                              .add((VariableElement) e);
+                                              .add(e);
       }
     }
   }
@@ -186,6 +743,10 @@ public class DominoV2MessageProcessor
                                                                       .processingEnvironment(processingEnv)
                                                                       .build();
     this.messagePresenterAnnotatedElements = new HashMap<>();
+    if (Boolean.parseBoolean(this.processingEnv.getOptions()
+                                               .get(DominoV2MessageProcessor.STATISTICS_OPTION))) {
+      this.statistics = new DominoV2MessageProcessorStatistics(this.dominoV2MessageProcessorUtils);
+    }
   }
 
   private void validateTypeElement(Element annotatedElement)
@@ -202,30 +763,90 @@ public class DominoV2MessageProcessor
     }
   }
 
-  private void validateVariableElement(Element annotatedElement)
+  private void validatePresenterElement(Element annotatedElement)
       throws DominoV2MessageProcessorException {
-    if (annotatedElement instanceof VariableElement) {
-      VariableElement variableElement = (VariableElement) annotatedElement;
-      if (!variableElement.getKind()
-                          .isField()) {
-        throw new DominoV2MessageProcessorException("Nalu-Message-Processor: @MessagePresenter must be used with a field");
-      }
-      if (!this.dominoV2MessageProcessorUtils.extendsClassOrInterface(super.processingEnv.getTypeUtils(),
-                                                                      variableElement.asType(),
-                                                                      this.processingEnv.getElementUtils()
-                                                                         .getTypeElement(AbstractFormElement.class.getCanonicalName())
-                                                                         .asType())) {
+    if (annotatedElement.getKind() == ElementKind.METHOD) {
+      ExecutableElement executableElement = (ExecutableElement) annotatedElement;
+      if (!executableElement.getParameters()
+                            .isEmpty()) {
         throw new DominoV2MessageProcessorException("Nalu-Message-Processor: " +
-                                                    variableElement.getSimpleName()
-                                                    .toString() +
-                                                    ": @MessageSupport: element must extend AbstractFormElement (Domino-UI) super class");
+                                                    executableElement.getSimpleName()
+                                                                     .toString() +
+                                                    ": @MessagePresenter must be used with a getter (no parameters)");
       }
-    } else {
-      throw new DominoV2MessageProcessorException("Nalu-Message-Processory:" +
-                                                  "@Nalu-MessageSupport can only be used on a type (field)");
+    } else if (!annotatedElement.getKind()
+                                .isField()) {
+      throw new DominoV2MessageProcessorException("Nalu-Message-Processor: @MessagePresenter must be used with a field or a getter");
+    }
+    TypeMirror formElementType = this.getFormElementType(annotatedElement);
+    if (formElementType.getKind() != TypeKind.DECLARED ||
+        !this.dominoV2MessageProcessorUtils.extendsClassOrInterface(super.processingEnv.getTypeUtils(),
+                                                                    formElementType,
+                                                                    this.processingEnv.getElementUtils()
+                                                                                      .getTypeElement(AbstractFormElement.class.getCanonicalName())
+                                                                                      .asType())) {
+      throw new DominoV2MessageProcessorException("Nalu-Message-Processor: " +
+                                                  annotatedElement.getSimpleName()
+                                                                  .toString() +
+                                                  ": @MessageSupport: element must extend AbstractFormElement (Domino-UI) super class");
     }
   }
 
+  /**
+   * Returns the type of the form element bound by an annotated element:
+   * the type of a field, the element type of a supplier field
+   * or the return type of a getter.
+   *
+   * @param presenterElement the annotated element
+   * @return type of the form element
+   */
+  private TypeMirror getFormElementType(Element presenterElement) {
+    if (presenterElement.getKind() == ElementKind.METHOD) {
+      return ((ExecutableElement) presenterElement).getReturnType();
+    }
+    TypeMirror type = presenterElement.asType();
+    if (this.isSupplier(type)) {
+      List<? extends TypeMirror> typeArguments = ((DeclaredType) type).getTypeArguments();
+      return typeArguments.isEmpty() ? type : typeArguments.get(0);
+    }
+    return type;
+  }
+
+  /**
+   * Returns the expression reading the form element from the provider
+   *
+   * @param presenterElement the annotated element
+   * @return the expression (without provider)
+   */
+  private String getAccessor(Element presenterElement) {
+    String name = presenterElement.getSimpleName()
+                                  .toString();
+    if (presenterElement.getKind() == ElementKind.METHOD) {
+      return name + "()";
+    }
+    return this.isSupplier(presenterElement.asType()) ? name + ".get()" : name;
+  }
+
+  /**
+   * Returns how the form element is read from the provider
+   *
+   * @param presenterElement the annotated element
+   * @return the field kind
+   */
+  private DominoV2MessageDriverMetadata.FieldKind getFieldKind(Element presenterElement) {
+    if (presenterElement.getKind() == ElementKind.METHOD) {
+      return DominoV2MessageDriverMetadata.FieldKind.GETTER;
+    }
+    return this.isSupplier(presenterElement.asType()) ? DominoV2MessageDriverMetadata.FieldKind.SUPPLIER : DominoV2MessageDriverMetadata.FieldKind.FIELD;
+  }
+
+  private boolean isSupplier(TypeMirror type) {
+    return type.getKind() == TypeKind.DECLARED &&
+           Supplier.class.getCanonicalName()
+                         .equals(((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName()
+                                                                                     .toString());
+  }
+
   private String getPackageAsString(Element type) {
     return this.getPackage(type)
                .getQualifiedName()
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2018 - 2019 - Frank Hossfeld
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License"); you may not
+ *  use this file except in compliance with the License. You may obtain a copy of
+ *  the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ *  WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ *  License for the specific language governing permissions and limitations under
+ *  the License.
+ */
+
+package io.nalukit.domino.v2.message.binding.processor;
+
+/**
+ * Collects timings and counts of the processor and reports them as notes.
+ * <p>
+ * Only created in case the option <code>domino.message.binding.stats</code> is set.
+ */
+class DominoV2MessageProcessorStatistics {
+
+  private final DominoV2MessageProcessorUtils dominoV2MessageProcessorUtils;
+
+  private int round;
+
+  /* values of the current round */
+  private long roundStart;
+  private int  providerCount;
+  private int  fieldCount;
+  private int  fileCount;
+  private long fileSize;
+  private long validationNanos;
+  private long generationNanos;
+  private long writeNanos;
+
+  /* values of all rounds */
+  private long totalNanos;
+  private int  totalProviderCount;
+  private int  totalFieldCount;
+  private int  totalFileCount;
+  private long totalFileSize;
+  private long totalValidationNanos;
+  private long totalGenerationNanos;
+  private long totalWriteNanos;
+
+  DominoV2MessageProcessorStatistics(DominoV2MessageProcessorUtils dominoV2MessageProcessorUtils) {
+    this.dominoV2MessageProcessorUtils = dominoV2MessageProcessorUtils;
+  }
+
+  void beginRound() {
+    this.round++;
+    this.roundStart = System.nanoTime();
+    this.providerCount = 0;
+    this.fieldCount = 0;
+    this.fileCount = 0;
+    this.fileSize = 0;
+    this.validationNanos = 0;
+    this.generationNanos = 0;
+    this.writeNanos = 0;
+  }
+
+  /**
+   * Records the validation of the providers of the round
+   *
+   * @param providerCount number of providers
+   * @param fieldCount    number of annotated fields of the providers
+   * @param nanos         time spent
+   */
+  void validated(int providerCount,
+                 int fieldCount,
+                 long nanos) {
+    this.providerCount += providerCount;
+    this.fieldCount += fieldCount;
+    this.validationNanos += nanos;
+  }
+
+  /**
+   * Records the generation of the drivers (including the writes)
+   *
+   * @param nanos time spent
+   */
+  void generated(long nanos) {
+    this.generationNanos += nanos;
+  }
+
+  /**
+   * Records a file written using the Filer
+   *
+   * @param fileName name of the generated file
+   * @param size     size in bytes
+   * @param nanos    time spent writing
+   */
+  void written(String fileName,
+               int size,
+               long nanos) {
+    this.fileCount++;
+    this.fileSize += size;
+    this.writeNanos += nanos;
+    this.dominoV2MessageProcessorUtils.createNoteMessage("Nalu-Message-Processor: generated >>" +
+                                                         fileName +
+                                                         "<< (" +
+                                                         size +
+                                                         " bytes)");
+  }
+
+  void endRound() {
+    long roundNanos = System.nanoTime() - this.roundStart;
+    // writes are part of the generation, report them separately
+    long generationOnlyNanos = this.generationNanos - this.writeNanos;
+    this.totalNanos += roundNanos;
+    this.totalProviderCount += this.providerCount;
+    this.totalFieldCount += this.fieldCount;
+    this.totalFileCount += this.fileCount;
+    this.totalFileSize += this.fileSize;
+    this.totalValidationNanos += this.validationNanos;
+    this.totalGenerationNanos += generationOnlyNanos;
+    this.totalWriteNanos += this.writeNanos;
+    this.dominoV2MessageProcessorUtils.createNoteMessage(this.format("round " + this.round,
+                                                                     this.providerCount,
+                                                                     this.fieldCount,
+                                                                     this.fileCount,
+                                                                     this.fileSize,
+                                                                     this.validationNanos,
+                                                                     generationOnlyNanos,
+                                                                     this.writeNanos,
+                                                                     roundNanos));
+  }
+
+  /**
+   * Reports the values of all rounds
+   */
+  void finish() {
+    this.dominoV2MessageProcessorUtils.createNoteMessage(this.format("total (" + this.round + " rounds)",
+                                                                     this.totalProviderCount,
+                                                                     this.totalFieldCount,
+                                                                     this.totalFileCount,
+                                                                     this.totalFileSize,
+                                                                     this.totalValidationNanos,
+                                                                     this.totalGenerationNanos,
+                                                                     this.totalWriteNanos,
+                                                                     this.totalNanos));
+  }
+
+  private String format(String label,
+                        int providerCount,
+                        int fieldCount,
+                        int fileCount,
+                        long fileSize,
+                        long validationNanos,
+                        long generationNanos,
+                        long writeNanos,
+                        long nanos) {
+    return "Nalu-Message-Processor: " +
+           label +
+           ": " +
+           providerCount +
+           " providers, " +
+           fieldCount +
+           " fields, " +
+           fileCount +
+           " files (" +
+           fileSize +
+           " bytes) - validation: " +
+           this.toMillis(validationNanos) +
+           " ms, generation: " +
+           this.toMillis(generationNanos) +
+           " ms, filer: " +
+           this.toMillis(writeNanos) +
+           " ms, total: " +
+           this.toMillis(nanos) +
+           " ms";
+  }
+
+  private String toMillis(long nanos) {
+    return String.format("%.2f",
+                         nanos / 1_000_000d);
+  }
+
+}
@@ -23,6 +23,7 @@ import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
@@ -31,8 +32,11 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -48,6 +52,12 @@ public class DominoV2MessageProcessorUtils {
 
   private final Elements elements;
 
+  /* flattened super type hierarchies of declared types, key: type (including type arguments) */
+  private final Map<String, Set<TypeMirror>> supertypeHierarchies;
+
+  /* results of extendsClassOrInterface, key: type + ' ' + super type (without type arguments) */
+  private final Map<String, Boolean> extendsResults;
+
   @SuppressWarnings("unused")
   private DominoV2MessageProcessorUtils(Builder builder) {
     super();
@@ -58,6 +68,10 @@ public class DominoV2MessageProcessorUtils {
     this.messager = this.processingEnvironment.getMessager();
     this.filer = this.processingEnvironment.getFiler();
     this.elements = this.processingEnvironment.getElementUtils();
+
+    // the processor creates one instance per compilation: the cached results stay valid
+    this.supertypeHierarchies = new HashMap<>();
+    this.extendsResults = new HashMap<>();
   }
 
   public static Builder builder() {
@@ -97,6 +111,8 @@ public class DominoV2MessageProcessorUtils {
 
   /**
    * checks if a class or interface is implemented.
+   * <p>
+   * Results for declared types are cached.
    *
    * @param types       types
    * @param typeMirror  of the class to check
@@ -107,14 +123,28 @@ public class DominoV2MessageProcessorUtils {
                                          TypeMirror typeMirror,
                                          TypeMirror toImplement) {
     String clearedToImplement = this.removeGenericsFromClassName(toImplement.toString());
+    String key = null;
+    if (typeMirror.getKind() == TypeKind.DECLARED) {
+      key = typeMirror.toString() + " " + clearedToImplement;
+      Boolean result = this.extendsResults.get(key);
+      if (!Objects.isNull(result)) {
+        return result;
+      }
+    }
+    boolean result = false;
     Set<TypeMirror> setOfSuperType = this.getFlattenedSupertypeHierarchy(types,
                                                                          typeMirror);
     for (TypeMirror mirror : setOfSuperType) {
       if (clearedToImplement.equals(this.removeGenericsFromClassName(mirror.toString()))) {
-        return true;
+        result = true;
+        break;
       }
     }
-    return false;
+    if (!Objects.isNull(key)) {
+      this.extendsResults.put(key,
+                              result);
+    }
+    return result;
   }
 
   private String removeGenericsFromClassName(String className) {
@@ -130,6 +160,8 @@ public class DominoV2MessageProcessorUtils {
    * including the generator itself. The returned set maintains an internal
    * breadth-first ordering of the generator, followed by its interfaces (and their
    * super-interfaces), then the supertype and its interfaces, and so on.
+   * <p>
+   * Hierarchies of declared types are cached, don't modify the returned set.
    *
    * @param types      types
    * @param typeMirror of the class to check
@@ -137,6 +169,14 @@ public class DominoV2MessageProcessorUtils {
    */
   public Set<TypeMirror> getFlattenedSupertypeHierarchy(Types types,
                                                         TypeMirror typeMirror) {
+    // type variables with the same name may have different bounds: only declared types are cached
+    String key = typeMirror.getKind() == TypeKind.DECLARED ? typeMirror.toString() : null;
+    if (!Objects.isNull(key)) {
+      Set<TypeMirror> hierarchy = this.supertypeHierarchies.get(key);
+      if (!Objects.isNull(hierarchy)) {
+        return hierarchy;
+      }
+    }
     List<TypeMirror> toAdd = new ArrayList<>();
     LinkedHashSet<TypeMirror> result = new LinkedHashSet<>();
     toAdd.add(typeMirror);
@@ -146,6 +186,10 @@ public class DominoV2MessageProcessorUtils {
         toAdd.addAll(types.directSupertypes(type));
       }
     }
+    if (!Objects.isNull(key)) {
+      this.supertypeHierarchies.put(key,
+                                    result);
+    }
     return result;
   }
 
@@ -0,0 +1,125 @@
+package io.nalukit.domino.v2.message.binding.processor;
+
+import io.github.nalukit.domino.v2.message.binding.client.handling.DominoV2MessageDriverMetadata;
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DominoV2MessageProcessorTest {
+
+  private static final String IMPORTS = "import io.github.nalukit.domino.v2.message.binding.client.handling.IsDominoV2MessageProvider;\n" +
+                                        "import io.github.nalukit.domino.v2.message.binding.client.handling.annotation.DominoV2MessagePresenter;\n" +
+                                        "import io.github.nalukit.domino.v2.message.binding.client.handling.annotation.HasDominoV2MessageDriverSupport;\n" +
+                                        "import org.dominokit.domino.ui.forms.TextBox;\n";
+
+  @Test
+  public void providersWithTheSameSimpleName() {
+    Map<String, String> sources = new LinkedHashMap<>();
+    sources.put("a.Form",
+                "package a;\n" +
+                IMPORTS +
+                "@HasDominoV2MessageDriverSupport\n" +
+                "public class Form implements IsDominoV2MessageProvider {\n" +
+                "  @DominoV2MessagePresenter(\"name\")\n" +
+                "  protected TextBox name;\n" +
+                "}\n");
+    sources.put("b.Form",
+                "package b;\n" +
+                IMPORTS +
+                "@HasDominoV2MessageDriverSupport\n" +
+                "public class Form extends a.Form {\n" +
+                "  @DominoV2MessagePresenter(\"street\")\n" +
+                "  protected TextBox street;\n" +
+                "}\n");
+    sources.put("c.Form",
+                "package c;\n" +
+                IMPORTS +
+                "@HasDominoV2MessageDriverSupport(clearOnBlur = false)\n" +
+                "public class Form extends b.Form {\n" +
+                "  @DominoV2MessagePresenter(\"city\")\n" +
+                "  protected TextBox city;\n" +
+                "}\n");
+
+    ProcessorTestCompiler result = ProcessorTestCompiler.compile(sources);
+
+    assertEquals(result.getErrors()
+                       .toString(),
+                 0,
+                 result.getErrors()
+                       .size());
+    assertTrue(result.getClassNames()
+                     .contains("c.FormMessageDriverImpl"));
+  }
+
+  @Test
+  public void largeProviders()
+      throws Exception {
+    Map<String, String> sources = new LinkedHashMap<>();
+    sources.put("large.LargeForm",
+                DominoV2MessageProcessorTest.createProvider("LargeForm",
+                                                            "IsDominoV2MessageProvider",
+                                                            "field",
+                                                            5000));
+    sources.put("large.LargerForm",
+                DominoV2MessageProcessorTest.createProvider("LargerForm",
+                                                            "LargeForm",
+                                                            "other",
+                                                            1200));
+
+    ProcessorTestCompiler result = ProcessorTestCompiler.compile(sources);
+
+    assertEquals(result.getErrors()
+                       .toString(),
+                 0,
+                 result.getErrors()
+                       .size());
+    DominoV2MessageDriverMetadata metadata = DominoV2MessageProcessorTest.getMetadata(result.loadClass("large.AbstractLargerFormMessageDriver"));
+    assertEquals(6200,
+                 metadata.getFieldCount());
+    assertEquals(4999,
+                 metadata.getOrdinal("field4999"));
+    assertEquals(5000,
+                 metadata.getOrdinal("other0"));
+    assertEquals("other1199",
+                 metadata.getFieldId(6199));
+  }
+
+  private static String createProvider(String name,
+                                       String superType,
+                                       String fieldPrefix,
+                                       int fieldCount) {
+    StringBuilder source = new StringBuilder();
+    source.append("package large;\n")
+          .append(IMPORTS)
+          .append("@HasDominoV2MessageDriverSupport\n")
+          .append("public class ")
+          .append(name)
+          .append(superType.startsWith("Is") ? " implements " : " extends ")
+          .append(superType)
+          .append(" {\n");
+    for (int i = 0; i < fieldCount; i++) {
+      source.append("  @DominoV2MessagePresenter(\"")
+            .append(fieldPrefix)
+            .append(i)
+            .append("\")\n  TextBox ")
+            .append(fieldPrefix)
+            .append(i)
+            .append(";\n");
+    }
+    return source.append("}\n")
+                 .toString();
+  }
+
+  private static DominoV2MessageDriverMetadata getMetadata(Class<?> driverClass)
+      throws ReflectiveOperationException {
+    Field field = driverClass.getDeclaredField("METADATA");
+    field.setAccessible(true);
+    return (DominoV2MessageDriverMetadata) field.get(null);
+  }
+
+}
@@ -0,0 +1,170 @@
+package io.nalukit.domino.v2.message.binding.processor;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Compiles sources with the DominoV2MessageProcessor into a temporary directory
+ * (classpath: the test classpath).
+ */
+class ProcessorTestCompiler {
+
+  private final Path outputDirectory;
+
+  private final List<String> errors;
+
+  private ProcessorTestCompiler(Path outputDirectory,
+                                List<String> errors) {
+    this.outputDirectory = outputDirectory;
+    this.errors = errors;
+  }
+
+  /**
+   * Compiles the sources
+   *
+   * @param sources class name -&gt; source
+   * @return the result
+   */
+  static ProcessorTestCompiler compile(Map<String, String> sources) {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics,
+                                                                               null,
+                                                                               StandardCharsets.UTF_8)) {
+      Path outputDirectory = Files.createTempDirectory("processor-test");
+      List<JavaFileObject> compilationUnits = sources.entrySet()
+                                                     .stream()
+                                                     .map(e -> new Source(e.getKey(),
+                                                                          e.getValue()))
+                                                     .collect(Collectors.toList());
+      List<String> options = Arrays.asList("-classpath",
+                                           System.getProperty("java.class.path"),
+                                           // the jars of the classpath contain sources (GWT) - don't compile them
+                                           "-sourcepath",
+                                           "",
+                                           "-d",
+                                           outputDirectory.toString(),
+                                           "-s",
+                                           outputDirectory.toString(),
+                                           "-implicit:none",
+                                           "-nowarn");
+      JavaCompiler.CompilationTask task = compiler.getTask(null,
+                                                           fileManager,
+                                                           diagnostics,
+                                                           options,
+                                                           null,
+                                                           compilationUnits);
+      task.setProcessors(Collections.singletonList(new DominoV2MessageProcessor()));
+      task.call();
+      // formatted while the file manager is open
+      List<String> errors = new ArrayList<>();
+      for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+        if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+          errors.add(diagnostic.toString());
+        }
+      }
+      return new ProcessorTestCompiler(outputDirectory,
+                                       errors);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  List<String> getErrors() {
+    return this.errors;
+  }
+
+  /**
+   * Returns the compiled class file
+   *
+   * @param className the class name
+   * @return the class file
+   */
+  Path getClassFile(String className) {
+    return this.outputDirectory.resolve(className.replace('.',
+                                                          '/') + ".class");
+  }
+
+  /**
+   * Loads a compiled class
+   *
+   * @param className the class name
+   * @return the class
+   * @throws ClassNotFoundException in case the class was not compiled
+   */
+  Class<?> loadClass(String className)
+      throws ClassNotFoundException {
+    try {
+      URLClassLoader classLoader = new URLClassLoader(new URL[] { this.outputDirectory.toUri()
+                                                                                    .toURL() },
+                                                      ProcessorTestCompiler.class.getClassLoader());
+      return classLoader.loadClass(className);
+    } catch (MalformedURLException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+
+  /**
+   * Returns the names of the generated classes
+   *
+   * @return the class names
+   */
+  List<String> getClassNames() {
+    try (Stream<Path> files = Files.walk(this.outputDirectory)) {
+      return files.filter(f -> f.toString()
+                                .endsWith(".class"))
+                  .map(f -> this.outputDirectory.relativize(f)
+                                                .toString()
+                                                .replace(".class",
+                                                         "")
+                                                .replace('/',
+                                                         '.'))
+                  .sorted()
+                  .collect(Collectors.toList());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static class Source
+      extends SimpleJavaFileObject {
+
+    private final String source;
+
+    private Source(String className,
+                   String source) {
+      super(URI.create("string:///" + className.replace('.',
+                                                        '/') + Kind.SOURCE.extension),
+            Kind.SOURCE);
+      this.source = source;
+    }
+
+    @Override
+    public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+      return this.source;
+    }
+
+  }
+
+}
@@ -1,5 +1,12 @@
 package io.github.nalukit.domino.v2.message.binding.shared;
 
+import io.github.nalukit.domino.v2.message.binding.shared.guid.ContentGUID;
+import io.github.nalukit.domino.v2.message.binding.shared.guid.DefaultGUIDStrategy;
+import io.github.nalukit.domino.v2.message.binding.shared.guid.GUIDStrategy;
+
+import java.util.List;
+import java.util.Objects;
+
 /*
  * File: Math.uuid.js
  * Version: 1.3
@@ -31,6 +38,52 @@ public class GUID {
 
   private static final char[] CHARS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
 
+  /* strategy used by get() - ThreadLocalRandomGUIDStrategy on the JVM, RandomGUIDStrategy on the client */
+  private static GUIDStrategy strategy = DefaultGUIDStrategy.create();
+
+  /**
+   * Sets the strategy used to create ids. Set the strategy once at startup.
+   * <p>
+   * Available strategies:
+   * <ul>
+   * <li>RandomGUIDStrategy: RFC4122, version 4 ids (default on the client)</li>
+   * <li>ThreadLocalRandomGUIDStrategy: RFC4122, version 4 ids, without contention (default on the JVM, server only)</li>
+   * <li>TimeOrderedGUIDStrategy: ids sorting in order of creation (ULID)</li>
+   * <li>CounterGUIDStrategy: prefix and counter (client)</li>
+   * </ul>
+   *
+   * @param strategy the strategy
+   */
+  public static void setStrategy(GUIDStrategy strategy) {
+    if (Objects.isNull(strategy)) {
+      throw new IllegalArgumentException("strategy must not be null");
+    }
+    GUID.strategy = strategy;
+  }
+
+  /**
+   * Returns the strategy used to create ids
+   *
+   * @return the strategy
+   */
+  public static GUIDStrategy getStrategy() {
+    return GUID.strategy;
+  }
+
+  /**
+   * Generate a content addressed id: messages having the same message id
+   * and error sources get the same id.
+   *
+   * @param messageId    the message id
+   * @param errorSources the error sources
+   * @return generated id
+   */
+  public static String get(String messageId,
+                           List<String> errorSources) {
+    return ContentGUID.of(messageId,
+                          errorSources);
+  }
+
   /**
    * Generate a random uuid of the specified length. Example: uuid(15) returns "VcydxgltxrVZSTV"
    *
@@ -68,25 +121,13 @@ public class GUID {
   }
 
   /**
-   * Generate a RFC4122, version 4 ID. Example: "92329D39-6F5C-4520-ABFC-AAB64544E172"
+   * Generate an id using the current strategy. By default, a RFC4122,
+   * version 4 ID. Example: "92329D39-6F5C-4520-ABFC-AAB64544E172"
+   *
+   * @return generated id
    */
   public static String get() {
-    char[] uuid = new char[36];
-    int r;
-
-    // rfc4122 requires these characters
-    uuid[8] = uuid[13] = uuid[18] = uuid[23] = '-';
-    uuid[14] = '4';
-
-    // Fill in random data.  At i==19 set the high bits of clock sequence as
-    // per rfc4122, sec. 4.1.5
-    for (int i = 0; i < 36; i++) {
-      if (uuid[i] == 0) {
-        r = (int) (Math.random() * 16);
-        uuid[i] = CHARS[(i == 19) ? (r & 0x3) | 0x8 : r & 0xf];
-      }
-    }
-    return new String(uuid);
+    return GUID.strategy.next();
   }
 
 }
@@ -0,0 +1,149 @@
+package io.github.nalukit.domino.v2.message.binding.shared.catalog;
+
+import io.github.nalukit.domino.v2.message.binding.shared.model.IsDominoV2Message;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Catalog of message templates keyed by message id.
+ * <p>
+ * The catalog is loaded once per session. Afterwards, the server only needs
+ * to send the message id and the arguments of a message (see
+ * {@link IsDominoV2Message#getArguments()}) instead of the rendered text.
+ * <p>
+ * Templates are stored per locale. A template is looked up in the current
+ * locale first, then in the parent locales (<code>de_CH</code> -&gt;
+ * <code>de</code> -&gt; default locale). Templates are compiled on first use
+ * and cached per locale, including the result of the fallback lookup.
+ */
+public class DominoV2MessageCatalog {
+
+  /* locale used in case no template is found in the current locale */
+  public final static String DEFAULT_LOCALE = "";
+
+  /* marks a message id without template inside the cache */
+  private final static DominoV2MessageTemplate NO_TEMPLATE = DominoV2MessageTemplate.compile("");
+
+  /* patterns: locale -> message id -> pattern */
+  private final Map<String, Map<String, String>> patterns;
+
+  /* compiled templates: locale -> message id -> template */
+  private final Map<String, Map<String, DominoV2MessageTemplate>> templates;
+
+  private String locale;
+
+  public DominoV2MessageCatalog() {
+    this.patterns = new HashMap<>();
+    this.templates = new HashMap<>();
+    this.locale = DominoV2MessageCatalog.DEFAULT_LOCALE;
+  }
+
+  /**
+   * Adds a template
+   *
+   * @param locale    locale of the template (DEFAULT_LOCALE for the default)
+   * @param messageId message id
+   * @param pattern   pattern, f.e.: "Value must be between {0} and {1}"
+   * @return the catalog
+   */
+  public DominoV2MessageCatalog add(String locale,
+                                    String messageId,
+                                    String pattern) {
+    this.patterns.computeIfAbsent(locale,
+                                  l -> new HashMap<>())
+                 .put(messageId,
+                      pattern);
+    // the fallback of other locales might have changed
+    this.templates.clear();
+    return this;
+  }
+
+  /**
+   * Adds the templates of a locale
+   *
+   * @param locale   locale of the templates (DEFAULT_LOCALE for the default)
+   * @param patterns message id -> pattern
+   * @return the catalog
+   */
+  public DominoV2MessageCatalog add(String locale,
+                                    Map<String, String> patterns) {
+    this.patterns.computeIfAbsent(locale,
+                                  l -> new HashMap<>())
+                 .putAll(patterns);
+    this.templates.clear();
+    return this;
+  }
+
+  public String getLocale() {
+    return locale;
+  }
+
+  /**
+   * Sets the locale used to look up templates
+   *
+   * @param locale the locale, f.e.: "de_CH"
+   */
+  public void setLocale(String locale) {
+    this.locale = Objects.isNull(locale) ? DominoV2MessageCatalog.DEFAULT_LOCALE : locale;
+  }
+
+  /**
+   * Returns the template of the message id in the current locale
+   *
+   * @param messageId the message id
+   * @return the template or null, in case there is no template
+   */
+  public DominoV2MessageTemplate getTemplate(String messageId) {
+    if (Objects.isNull(messageId)) {
+      return null;
+    }
+    Map<String, DominoV2MessageTemplate> localeTemplates = this.templates.computeIfAbsent(this.locale,
+                                                                                          l -> new HashMap<>());
+    DominoV2MessageTemplate template = localeTemplates.get(messageId);
+    if (Objects.isNull(template)) {
+      String pattern = this.findPattern(messageId);
+      template = Objects.isNull(pattern) ? DominoV2MessageCatalog.NO_TEMPLATE : DominoV2MessageTemplate.compile(pattern);
+      localeTemplates.put(messageId,
+                          template);
+    }
+    return template == DominoV2MessageCatalog.NO_TEMPLATE ? null : template;
+  }
+
+  /**
+   * Returns the text of a message: the template of the message id rendered
+   * with the arguments of the message. In case there is no template,
+   * the text of the message is returned.
+   *
+   * @param message the message
+   * @return the text
+   */
+  public String getText(IsDominoV2Message message) {
+    DominoV2MessageTemplate template = this.getTemplate(message.getMessageId());
+    if (Objects.isNull(template)) {
+      return message.getText();
+    }
+    return template.render(message.getArguments());
+  }
+
+  private String findPattern(String messageId) {
+    String current = this.locale;
+    while (true) {
+      Map<String, String> localePatterns = this.patterns.get(current);
+      if (!Objects.isNull(localePatterns)) {
+        String pattern = localePatterns.get(messageId);
+        if (!Objects.isNull(pattern)) {
+          return pattern;
+        }
+      }
+      if (current.isEmpty()) {
+        return null;
+      }
+      int index = current.lastIndexOf('_');
+      current = index == -1 ? DominoV2MessageCatalog.DEFAULT_LOCALE : current.substring(0,
+                                                                                        index);
+    }
+  }
+
+}
@@ -0,0 +1,120 @@
+package io.github.nalukit.domino.v2.message.binding.shared.catalog;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Pre-compiled message template.
+ * <p>
+ * A template contains placeholders referencing the arguments by position,
+ * f.e.: <code>"Value must be between {0} and {1}"</code>. The pattern is
+ * parsed once, rendering only concatenates the parts. Braces not forming
+ * a placeholder are kept as they are. Placeholders without an argument
+ * are rendered unchanged.
+ */
+public class DominoV2MessageTemplate {
+
+  private final String pattern;
+
+  /* literal parts - one more than placeholders */
+  private final String[] literals;
+
+  /* argument index of each placeholder */
+  private final int[] argumentIndices;
+
+  private DominoV2MessageTemplate(String pattern,
+                                  String[] literals,
+                                  int[] argumentIndices) {
+    this.pattern = pattern;
+    this.literals = literals;
+    this.argumentIndices = argumentIndices;
+  }
+
+  /**
+   * Parses a pattern
+   *
+   * @param pattern the pattern
+   * @return the compiled template
+   */
+  public static DominoV2MessageTemplate compile(String pattern) {
+    List<String> literals = new ArrayList<>();
+    List<Integer> argumentIndices = new ArrayList<>();
+    StringBuilder literal = new StringBuilder();
+    int i = 0;
+    while (i < pattern.length()) {
+      char c = pattern.charAt(i);
+      int end = c == '{' ? DominoV2MessageTemplate.placeholderEnd(pattern,
+                                                                  i) : -1;
+      if (end == -1) {
+        literal.append(c);
+        i++;
+      } else {
+        literals.add(literal.toString());
+        literal.setLength(0);
+        argumentIndices.add(Integer.parseInt(pattern.substring(i + 1,
+                                                               end)));
+        i = end + 1;
+      }
+    }
+    literals.add(literal.toString());
+    int[] indices = new int[argumentIndices.size()];
+    for (int j = 0; j < indices.length; j++) {
+      indices[j] = argumentIndices.get(j);
+    }
+    return new DominoV2MessageTemplate(pattern,
+                                       literals.toArray(new String[0]),
+                                       indices);
+  }
+
+  /**
+   * Returns the position of the closing brace of a placeholder
+   *
+   * @param pattern the pattern
+   * @param start   position of the opening brace
+   * @return position of the closing brace or -1, in case there is no placeholder at start
+   */
+  private static int placeholderEnd(String pattern,
+                                    int start) {
+    int i = start + 1;
+    while (i < pattern.length() && Character.isDigit(pattern.charAt(i))) {
+      i++;
+    }
+    // at least one digit, at most 9 (int)
+    if (i == start + 1 || i - start - 1 > 9 || i >= pattern.length() || pattern.charAt(i) != '}') {
+      return -1;
+    }
+    return i;
+  }
+
+  /**
+   * Renders the template
+   *
+   * @param arguments the arguments (can be null)
+   * @return the text
+   */
+  public String render(List<String> arguments) {
+    if (this.argumentIndices.length == 0) {
+      return this.literals[0];
+    }
+    StringBuilder sb = new StringBuilder(this.pattern.length() + 16);
+    for (int i = 0; i < this.argumentIndices.length; i++) {
+      sb.append(this.literals[i]);
+      int index = this.argumentIndices[i];
+      if (!Objects.isNull(arguments) && index < arguments.size()) {
+        sb.append(arguments.get(index));
+      } else {
+        sb.append('{')
+          .append(index)
+          .append('}');
+      }
+    }
+    sb.append(this.literals[this.argumentIndices.length]);
+    return sb.toString();
+  }
+
+  public String getPattern() {
+    return pattern;
+  }
+
+}
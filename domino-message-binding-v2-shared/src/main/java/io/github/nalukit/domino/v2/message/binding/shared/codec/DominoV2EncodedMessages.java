@@ -0,0 +1,42 @@
+package io.github.nalukit.domino.v2.message.binding.shared.codec;
+
+/**
+ * Dictionary-encoded list of messages (see {@link DominoV2MessageCodec}).
+ * <p>
+ * Contains only arrays of strings and ints, so it can be transported using
+ * any JSON mapper.
+ */
+public class DominoV2EncodedMessages {
+
+  /* dictionary: every string (id, message id, text, error source) is contained once */
+  private String[] strings;
+
+  /* encoded messages: indices into the dictionary, ordinals of the targets and counts */
+  private int[] data;
+
+  public DominoV2EncodedMessages() {
+  }
+
+  public DominoV2EncodedMessages(String[] strings,
+                                 int[] data) {
+    this.strings = strings;
+    this.data = data;
+  }
+
+  public String[] getStrings() {
+    return strings;
+  }
+
+  public void setStrings(String[] strings) {
+    this.strings = strings;
+  }
+
+  public int[] getData() {
+    return data;
+  }
+
+  public void setData(int[] data) {
+    this.data = data;
+  }
+
+}
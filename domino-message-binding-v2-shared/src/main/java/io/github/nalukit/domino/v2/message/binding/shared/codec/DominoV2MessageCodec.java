@@ -0,0 +1,422 @@
+package io.github.nalukit.domino.v2.message.binding.shared.codec;
+
+import io.github.nalukit.domino.v2.message.binding.shared.model.IsDominoV2Message;
+
+import java.util.AbstractList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Codec for a compact, dictionary-encoded representation of a message list.
+ * <p>
+ * Every string is stored once inside a dictionary and referenced by index.
+ * The data array has the following layout:
+ * <pre>
+ * [version, messageCount,
+ *  id, messageId, text, target,
+ *  sourceCount, source_1 ... source_n,
+ *  argumentCount, argument_1 ... argument_n,                         (first message)
+ *  ...]
+ * </pre>
+ * Strings are dictionary indices, the target is the ordinal of the enum.
+ * -1 represents null. Data of version 1 (without arguments) is still decoded.
+ * <p>
+ * Decoding does not copy the strings: the returned list is a read-only view
+ * on the arrays and can be handed to a driver directly. The setters of a
+ * decoded message do not modify the arrays, the value is kept by the message.
+ * Runs on the JVM and in the browser.
+ */
+public class DominoV2MessageCodec {
+
+  /* version of the format */
+  public final static int VERSION = 2;
+
+  /* first version, no arguments */
+  private final static int VERSION_1 = 1;
+
+  /* represents null */
+  private final static int NULL = -1;
+
+  private final static IsDominoV2Message.Target[] TARGETS = IsDominoV2Message.Target.values();
+
+  private DominoV2MessageCodec() {
+  }
+
+  /**
+   * Encodes a list of messages
+   *
+   * @param messages the messages
+   * @return the encoded messages
+   */
+  public static DominoV2EncodedMessages encode(List<? extends IsDominoV2Message> messages) {
+    Map<String, Integer> dictionary = new HashMap<>();
+    IntBuffer data = new IntBuffer(2 + messages.size() * 7);
+    data.add(DominoV2MessageCodec.VERSION);
+    data.add(messages.size());
+    for (int i = 0; i < messages.size(); i++) {
+      IsDominoV2Message message = messages.get(i);
+      data.add(DominoV2MessageCodec.index(dictionary,
+                                          message.getId()));
+      data.add(DominoV2MessageCodec.index(dictionary,
+                                          message.getMessageId()));
+      data.add(DominoV2MessageCodec.index(dictionary,
+                                          message.getText()));
+      data.add(Objects.isNull(message.getTarget()) ? DominoV2MessageCodec.NULL : message.getTarget()
+                                                                                        .ordinal());
+      DominoV2MessageCodec.addStrings(dictionary,
+                                      data,
+                                      message.getErrorSources());
+      DominoV2MessageCodec.addStrings(dictionary,
+                                      data,
+                                      message.getArguments());
+    }
+    String[] strings = new String[dictionary.size()];
+    for (Map.Entry<String, Integer> entry : dictionary.entrySet()) {
+      strings[entry.getValue()] = entry.getKey();
+    }
+    return new DominoV2EncodedMessages(strings,
+                                       data.toArray());
+  }
+
+  /**
+   * Decodes a list of messages.
+   * <p>
+   * The data is validated once and the read-only views on the messages are
+   * created. The strings are not copied.
+   *
+   * @param encoded the encoded messages
+   * @return read-only list of the messages
+   * @throws IllegalArgumentException in case the data is not valid
+   */
+  public static List<IsDominoV2Message> decode(DominoV2EncodedMessages encoded) {
+    String[] strings = encoded.getStrings();
+    int[] data = encoded.getData();
+    if (Objects.isNull(strings) || Objects.isNull(data) || data.length < 2) {
+      throw new IllegalArgumentException("invalid encoded messages: missing data");
+    }
+    int version = data[0];
+    if (version != DominoV2MessageCodec.VERSION && version != DominoV2MessageCodec.VERSION_1) {
+      throw new IllegalArgumentException("invalid encoded messages: unsupported version >>" + version + "<<");
+    }
+    boolean withArguments = version != DominoV2MessageCodec.VERSION_1;
+    int count = data[1];
+    if (count < 0) {
+      throw new IllegalArgumentException("invalid encoded messages: negative message count");
+    }
+    // every message needs at least 5 (version 1) or 6 values: check the count before allocating
+    int minimumSize = withArguments ? 6 : 5;
+    if (count > (data.length - 2) / minimumSize) {
+      throw new IllegalArgumentException("invalid encoded messages: message count >>" + count + "<< exceeds the data");
+    }
+    IsDominoV2Message[] messages = new IsDominoV2Message[count];
+    int position = 2;
+    for (int i = 0; i < count; i++) {
+      if (position + 4 > data.length) {
+        throw new IllegalArgumentException("invalid encoded messages: message " + i + " is truncated");
+      }
+      int offset = position;
+      DominoV2MessageCodec.checkString(strings,
+                                       data[position]);
+      DominoV2MessageCodec.checkString(strings,
+                                       data[position + 1]);
+      DominoV2MessageCodec.checkString(strings,
+                                       data[position + 2]);
+      if (data[position + 3] < DominoV2MessageCodec.NULL || data[position + 3] >= DominoV2MessageCodec.TARGETS.length) {
+        throw new IllegalArgumentException("invalid encoded messages: unknown target >>" + data[position + 3] + "<<");
+      }
+      position += 4;
+      List<String> errorSources = DominoV2MessageCodec.strings(strings,
+                                                               data,
+                                                               position,
+                                                               "error sources of message " + i);
+      position += 1 + errorSources.size();
+      List<String> arguments = Collections.emptyList();
+      if (withArguments) {
+        arguments = DominoV2MessageCodec.strings(strings,
+                                                 data,
+                                                 position,
+                                                 "arguments of message " + i);
+        position += 1 + arguments.size();
+      }
+      messages[i] = new EncodedMessage(strings,
+                                       data,
+                                       offset,
+                                       errorSources,
+                                       arguments);
+    }
+    return new MessageList(messages);
+  }
+
+  private static void addStrings(Map<String, Integer> dictionary,
+                                 IntBuffer data,
+                                 List<String> values) {
+    if (Objects.isNull(values)) {
+      data.add(0);
+    } else {
+      data.add(values.size());
+      for (int i = 0; i < values.size(); i++) {
+        data.add(DominoV2MessageCodec.index(dictionary,
+                                            values.get(i)));
+      }
+    }
+  }
+
+  /* validates a count followed by string indices and returns a view on the strings */
+  private static List<String> strings(String[] strings,
+                                      int[] data,
+                                      int position,
+                                      String name) {
+    if (position >= data.length) {
+      throw new IllegalArgumentException("invalid encoded messages: " + name + " are truncated");
+    }
+    int size = data[position];
+    if (size < 0 || size > data.length - position - 1) {
+      throw new IllegalArgumentException("invalid encoded messages: " + name + " are truncated");
+    }
+    for (int i = 1; i <= size; i++) {
+      DominoV2MessageCodec.checkString(strings,
+                                       data[position + i]);
+    }
+    if (size == 0) {
+      return Collections.emptyList();
+    }
+    return new StringList(strings,
+                          data,
+                          position + 1,
+                          size);
+  }
+
+  private static int index(Map<String, Integer> dictionary,
+                           String value) {
+    if (Objects.isNull(value)) {
+      return DominoV2MessageCodec.NULL;
+    }
+    Integer index = dictionary.get(value);
+    if (Objects.isNull(index)) {
+      index = dictionary.size();
+      dictionary.put(value,
+                     index);
+    }
+    return index;
+  }
+
+  private static void checkString(String[] strings,
+                                  int index) {
+    if (index < DominoV2MessageCodec.NULL || index >= strings.length) {
+      throw new IllegalArgumentException("invalid encoded messages: unknown string >>" + index + "<<");
+    }
+  }
+
+  private static String string(String[] strings,
+                               int index) {
+    return index == DominoV2MessageCodec.NULL ? null : strings[index];
+  }
+
+  /* growable int array */
+  private static class IntBuffer {
+
+    private int[] values;
+    private int   size;
+
+    IntBuffer(int capacity) {
+      this.values = new int[Math.max(capacity,
+                                     2)];
+    }
+
+    void add(int value) {
+      if (this.size == this.values.length) {
+        int[] values = new int[this.values.length * 2];
+        System.arraycopy(this.values,
+                         0,
+                         values,
+                         0,
+                         this.size);
+        this.values = values;
+      }
+      this.values[this.size++] = value;
+    }
+
+    int[] toArray() {
+      int[] values = new int[this.size];
+      System.arraycopy(this.values,
+                       0,
+                       values,
+                       0,
+                       this.size);
+      return values;
+    }
+
+  }
+
+  /* read-only view on the encoded messages */
+  private static class MessageList
+      extends AbstractList<IsDominoV2Message> {
+
+    private final IsDominoV2Message[] messages;
+
+    MessageList(IsDominoV2Message[] messages) {
+      this.messages = messages;
+    }
+
+    @Override
+    public IsDominoV2Message get(int index) {
+      return this.messages[index];
+    }
+
+    @Override
+    public int size() {
+      return this.messages.length;
+    }
+
+  }
+
+  /* view on one encoded message, a value set after decoding is kept by the message */
+  private static class EncodedMessage
+      implements IsDominoV2Message {
+
+    private final static int ID         = 1;
+    private final static int MESSAGE_ID = 2;
+    private final static int TEXT       = 4;
+    private final static int TARGET     = 8;
+
+    private final String[]     strings;
+    private final int[]        data;
+    private final int          offset;
+    private final List<String> arguments;
+    private       List<String> errorSources;
+
+    /* values set after decoding */
+    private int    modified;
+    private String id;
+    private String messageId;
+    private String text;
+    private Target target;
+
+    EncodedMessage(String[] strings,
+                   int[] data,
+                   int offset,
+                   List<String> errorSources,
+                   List<String> arguments) {
+      this.strings = strings;
+      this.data = data;
+      this.offset = offset;
+      this.errorSources = errorSources;
+      this.arguments = arguments;
+    }
+
+    @Override
+    public String getId() {
+      if ((this.modified & EncodedMessage.ID) != 0) {
+        return this.id;
+      }
+      return DominoV2MessageCodec.string(this.strings,
+                                         this.data[this.offset]);
+    }
+
+    @Override
+    public void setId(String id) {
+      this.id = id;
+      this.modified |= EncodedMessage.ID;
+    }
+
+    @Override
+    public String getMessageId() {
+      if ((this.modified & EncodedMessage.MESSAGE_ID) != 0) {
+        return this.messageId;
+      }
+      return DominoV2MessageCodec.string(this.strings,
+                                         this.data[this.offset + 1]);
+    }
+
+    @Override
+    public void setMessageId(String messageId) {
+      this.messageId = messageId;
+      this.modified |= EncodedMessage.MESSAGE_ID;
+    }
+
+    @Override
+    public String getText() {
+      if ((this.modified & EncodedMessage.TEXT) != 0) {
+        return this.text;
+      }
+      return DominoV2MessageCodec.string(this.strings,
+                                         this.data[this.offset + 2]);
+    }
+
+    @Override
+    public void setText(String text) {
+      this.text = text;
+      this.modified |= EncodedMessage.TEXT;
+    }
+
+    @Override
+    public Target getTarget() {
+      if ((this.modified & EncodedMessage.TARGET) != 0) {
+        return this.target;
+      }
+      int ordinal = this.data[this.offset + 3];
+      return ordinal == DominoV2MessageCodec.NULL ? null : DominoV2MessageCodec.TARGETS[ordinal];
+    }
+
+    @Override
+    public void setTarget(Target target) {
+      this.target = target;
+      this.modified |= EncodedMessage.TARGET;
+    }
+
+    @Override
+    public List<String> getErrorSources() {
+      return this.errorSources;
+    }
+
+    @Override
+    public void setErrorSources(List<String> errorSources) {
+      this.errorSources = errorSources;
+    }
+
+    @Override
+    public List<String> getArguments() {
+      return this.arguments;
+    }
+
+  }
+
+  /* read-only view on strings of one encoded message (error sources or arguments) */
+  private static class StringList
+      extends AbstractList<String> {
+
+    private final String[] strings;
+    private final int[]    data;
+    private final int      offset;
+    private final int      size;
+
+    StringList(String[] strings,
+               int[] data,
+               int offset,
+               int size) {
+      this.strings = strings;
+      this.data = data;
+      this.offset = offset;
+      this.size = size;
+    }
+
+    @Override
+    public String get(int index) {
+      if (index < 0 || index >= this.size) {
+        throw new IndexOutOfBoundsException("index: " + index + ", size: " + this.size);
+      }
+      return DominoV2MessageCodec.string(this.strings,
+                                         this.data[this.offset + index]);
+    }
+
+    @Override
+    public int size() {
+      return this.size;
+    }
+
+  }
+
+}
@@ -0,0 +1,85 @@
+package io.github.nalukit.domino.v2.message.binding.shared.guid;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Creates content addressed ids: the id is derived from the message id
+ * and the error sources of a message, so messages having the same content
+ * get the same id and can be deduplicated.
+ * <p>
+ * The id has the format of a RFC4122 id (version 8). The 128 bits are
+ * built from four hashes using different seeds. Only shifts and additions
+ * are used, so the result is the same on the server and the client.
+ */
+public final class ContentGUID {
+
+  private static final int[] SEEDS = { 0x9E3779B9,
+                                       0x85EBCA6B,
+                                       0xC2B2AE35,
+                                       0x27D4EB2F };
+
+  private ContentGUID() {
+  }
+
+  /**
+   * Creates the id of a message
+   *
+   * @param messageId    the message id (can be null)
+   * @param errorSources the error sources (can be null)
+   * @return the id
+   */
+  public static String of(String messageId,
+                          List<String> errorSources) {
+    int[] hashes = new int[SEEDS.length];
+    for (int lane = 0; lane < SEEDS.length; lane++) {
+      int hash = ContentGUID.hash(SEEDS[lane],
+                                  messageId);
+      if (!Objects.isNull(errorSources)) {
+        for (int i = 0; i < errorSources.size(); i++) {
+          hash = ContentGUID.hash(hash,
+                                  errorSources.get(i));
+        }
+      }
+      hashes[lane] = ContentGUID.finish(hash);
+    }
+    return GUIDFormat.format(hashes[0],
+                             hashes[1],
+                             hashes[2],
+                             hashes[3],
+                             8);
+  }
+
+  /**
+   * Adds a value to the hash (Jenkins one-at-a-time). The length is
+   * added first, so ["ab", "c"] and ["a", "bc"] differ.
+   */
+  private static int hash(int hash,
+                          String value) {
+    hash = ContentGUID.add(hash,
+                           Objects.isNull(value) ? -1 : value.length());
+    if (!Objects.isNull(value)) {
+      for (int i = 0; i < value.length(); i++) {
+        hash = ContentGUID.add(hash,
+                               value.charAt(i));
+      }
+    }
+    return hash;
+  }
+
+  private static int add(int hash,
+                         int value) {
+    hash += value;
+    hash += hash << 10;
+    hash ^= hash >>> 6;
+    return hash;
+  }
+
+  private static int finish(int hash) {
+    hash += hash << 3;
+    hash ^= hash >>> 11;
+    hash += hash << 15;
+    return hash;
+  }
+
+}
@@ -0,0 +1,47 @@
+package io.github.nalukit.domino.v2.message.binding.shared.guid;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Creates ids from a prefix and a counter. Example: "K3T9QX2B-1A"
+ * <p>
+ * The cheapest strategy. Ids are unique for the prefix only, so use it
+ * for ids created on the client, that are not stored. By default,
+ * the prefix is random.
+ */
+public class CounterGUIDStrategy
+    implements GUIDStrategy {
+
+  private static final char[] CHARS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+
+  private final String prefix;
+
+  private final AtomicLong counter;
+
+  public CounterGUIDStrategy() {
+    this(CounterGUIDStrategy.randomPrefix());
+  }
+
+  public CounterGUIDStrategy(String prefix) {
+    this.prefix = prefix + "-";
+    this.counter = new AtomicLong();
+  }
+
+  private static String randomPrefix() {
+    Random random = new Random();
+    char[] prefix = new char[8];
+    for (int i = 0; i < prefix.length; i++) {
+      prefix[i] = CHARS[random.nextInt(CHARS.length)];
+    }
+    return new String(prefix);
+  }
+
+  @Override
+  public String next() {
+    return this.prefix + Long.toString(this.counter.incrementAndGet(),
+                                       36)
+                             .toUpperCase();
+  }
+
+}
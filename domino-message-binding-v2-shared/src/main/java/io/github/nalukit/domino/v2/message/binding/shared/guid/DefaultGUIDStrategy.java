@@ -0,0 +1,24 @@
+package io.github.nalukit.domino.v2.message.binding.shared.guid;
+
+/**
+ * Creates the strategy {@link io.github.nalukit.domino.v2.message.binding.shared.GUID}
+ * uses until another one is set.
+ * <p>
+ * On the JVM: {@link ThreadLocalRandomGUIDStrategy}. On the client, this class
+ * is replaced by a super-source returning a {@link RandomGUIDStrategy}.
+ */
+public final class DefaultGUIDStrategy {
+
+  private DefaultGUIDStrategy() {
+  }
+
+  /**
+   * Creates the default strategy
+   *
+   * @return the strategy
+   */
+  public static GUIDStrategy create() {
+    return new ThreadLocalRandomGUIDStrategy();
+  }
+
+}
@@ -0,0 +1,79 @@
+package io.github.nalukit.domino.v2.message.binding.shared.guid;
+
+/**
+ * Formats 128 bits as RFC4122 id. Example: "92329D39-6F5C-4520-ABFC-AAB64544E172"
+ */
+public final class GUIDFormat {
+
+  private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+  private GUIDFormat() {
+  }
+
+  /**
+   * Formats the bits as id, replacing the version and the variant bits
+   *
+   * @param bits0   bits 0 - 31
+   * @param bits1   bits 32 - 63
+   * @param bits2   bits 64 - 95
+   * @param bits3   bits 96 - 127
+   * @param version version of the id (4 -&gt; random, 8 -&gt; custom)
+   * @return the id
+   */
+  public static String format(int bits0,
+                              int bits1,
+                              int bits2,
+                              int bits3,
+                              int version) {
+    char[] uuid = new char[36];
+    // rfc4122 requires these characters
+    uuid[8] = uuid[13] = uuid[18] = uuid[23] = '-';
+    GUIDFormat.hex(uuid,
+                   0,
+                   bits0,
+                   8);
+    GUIDFormat.hex(uuid,
+                   9,
+                   bits1 >>> 16,
+                   4);
+    uuid[14] = HEX[version & 0xf];
+    GUIDFormat.hex(uuid,
+                   15,
+                   bits1,
+                   3);
+    // high bits of clock sequence as per rfc4122, sec. 4.1.5
+    uuid[19] = HEX[((bits2 >>> 28) & 0x3) | 0x8];
+    GUIDFormat.hex(uuid,
+                   20,
+                   bits2 >>> 16,
+                   3);
+    GUIDFormat.hex(uuid,
+                   24,
+                   bits2,
+                   4);
+    GUIDFormat.hex(uuid,
+                   28,
+                   bits3,
+                   8);
+    return new String(uuid);
+  }
+
+  /**
+   * Writes the lowest digits of the value as hex digits
+   *
+   * @param chars  target
+   * @param offset position of the first digit
+   * @param value  value
+   * @param digits number of digits
+   */
+  private static void hex(char[] chars,
+                          int offset,
+                          int value,
+                          int digits) {
+    for (int i = offset + digits - 1; i >= offset; i--) {
+      chars[i] = HEX[value & 0xf];
+      value >>>= 4;
+    }
+  }
+
+}
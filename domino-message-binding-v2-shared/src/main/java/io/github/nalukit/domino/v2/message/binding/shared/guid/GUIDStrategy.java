@@ -0,0 +1,18 @@
+package io.github.nalukit.domino.v2.message.binding.shared.guid;
+
+/**
+ * Strategy used by {@link io.github.nalukit.domino.v2.message.binding.shared.GUID#get()}
+ * to create ids.
+ * <p>
+ * Implementations have to be thread-safe, in case they are used on the server.
+ */
+public interface GUIDStrategy {
+
+  /**
+   * Creates a new id
+   *
+   * @return the id
+   */
+  String next();
+
+}
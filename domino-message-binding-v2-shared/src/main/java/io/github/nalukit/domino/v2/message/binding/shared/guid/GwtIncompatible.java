@@ -0,0 +1,20 @@
+package io.github.nalukit.domino.v2.message.binding.shared.guid;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a type that is not available on the client. The GWT compiler
+ * ignores types annotated with an annotation of this name.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target({ ElementType.TYPE,
+          ElementType.METHOD,
+          ElementType.CONSTRUCTOR,
+          ElementType.FIELD })
+@interface GwtIncompatible {
+}
@@ -0,0 +1,36 @@
+package io.github.nalukit.domino.v2.message.binding.shared.guid;
+
+import java.util.Random;
+
+/**
+ * Creates RFC4122, version 4 ids using a <code>java.util.Random</code>.
+ * <p>
+ * The random bits of an id are taken from four calls to the random
+ * generator (instead of one call per character). This is the default
+ * strategy on the client. On the JVM, the default is
+ * {@link ThreadLocalRandomGUIDStrategy}, avoiding the contention on the
+ * seed shared by all threads.
+ */
+public class RandomGUIDStrategy
+    implements GUIDStrategy {
+
+  private final Random random;
+
+  public RandomGUIDStrategy() {
+    this(new Random());
+  }
+
+  public RandomGUIDStrategy(Random random) {
+    this.random = random;
+  }
+
+  @Override
+  public String next() {
+    return GUIDFormat.format(this.random.nextInt(),
+                             this.random.nextInt(),
+                             this.random.nextInt(),
+                             this.random.nextInt(),
+                             4);
+  }
+
+}
@@ -0,0 +1,27 @@
+package io.github.nalukit.domino.v2.message.binding.shared.guid;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Creates RFC4122, version 4 ids using the random generator of the current
+ * thread, so request threads do not contend on a shared seed.
+ * <p>
+ * Server only - the default strategy on the JVM (see {@link DefaultGUIDStrategy}).
+ */
+@GwtIncompatible
+public class ThreadLocalRandomGUIDStrategy
+    implements GUIDStrategy {
+
+  @Override
+  public String next() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long high = random.nextLong();
+    long low = random.nextLong();
+    return GUIDFormat.format((int) (high >>> 32),
+                             (int) high,
+                             (int) (low >>> 32),
+                             (int) low,
+                             4);
+  }
+
+}
@@ -0,0 +1,96 @@
+package io.github.nalukit.domino.v2.message.binding.shared.guid;
+
+import java.util.Random;
+
+/**
+ * Creates time ordered ids (ULID): 48 bits of time (milliseconds)
+ * followed by 80 random bits, encoded as 26 characters (Crockford's base32).
+ * Example: "01ARZ3NDEKTSV4RRFFQ69G5FAV"
+ * <p>
+ * Ids sort in order of creation. Ids created within the same millisecond
+ * increment the random part of the previous id.
+ */
+public class TimeOrderedGUIDStrategy
+    implements GUIDStrategy {
+
+  private static final char[] CHARS = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+  private final Random random;
+
+  /* time of the last id */
+  private long lastTime = -1;
+
+  /* random part of the last id - one base32 digit per entry */
+  private final int[] randomDigits = new int[16];
+
+  public TimeOrderedGUIDStrategy() {
+    this(new Random());
+  }
+
+  public TimeOrderedGUIDStrategy(Random random) {
+    this.random = random;
+  }
+
+  @Override
+  public synchronized String next() {
+    long time = Math.max(this.currentTimeMillis(),
+                         this.lastTime);
+    if (time == this.lastTime) {
+      if (!this.increment()) {
+        // random part overflowed -> borrow the next millisecond
+        time++;
+        this.randomize();
+      }
+    } else {
+      this.randomize();
+    }
+    this.lastTime = time;
+    char[] ulid = new char[26];
+    for (int i = 9; i >= 0; i--) {
+      ulid[i] = CHARS[(int) (time & 0x1f)];
+      time >>>= 5;
+    }
+    for (int i = 0; i < 16; i++) {
+      ulid[10 + i] = CHARS[this.randomDigits[i]];
+    }
+    return new String(ulid);
+  }
+
+  /**
+   * Returns the current time. Override to use a different clock.
+   *
+   * @return time in milliseconds
+   */
+  protected long currentTimeMillis() {
+    return System.currentTimeMillis();
+  }
+
+  private void randomize() {
+    int bits = 0;
+    for (int i = 0; i < 16; i++) {
+      // six digits per call
+      if (i % 6 == 0) {
+        bits = this.random.nextInt();
+      }
+      this.randomDigits[i] = bits & 0x1f;
+      bits >>>= 5;
+    }
+  }
+
+  /**
+   * Increments the random part
+   *
+   * @return false, in case the random part overflowed
+   */
+  private boolean increment() {
+    for (int i = 15; i >= 0; i--) {
+      if (this.randomDigits[i] < 0x1f) {
+        this.randomDigits[i]++;
+        return true;
+      }
+      this.randomDigits[i] = 0;
+    }
+    return false;
+  }
+
+}
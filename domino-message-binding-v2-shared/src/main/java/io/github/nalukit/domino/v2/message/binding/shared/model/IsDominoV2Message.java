@@ -1,5 +1,6 @@
 package io.github.nalukit.domino.v2.message.binding.shared.model;
 
+import java.util.Collections;
 import java.util.List;
 
 public interface IsDominoV2Message {
@@ -66,6 +67,10 @@ public interface IsDominoV2Message {
    * It is possible to set more than one error source for a message. In this case
    * the message wil be displayed on every referenced MessagePresenter
    *
+   * An error source can be a pattern: '*' matches any characters except '.',
+   * '**' matches any characters. F.e.: "items[*].price" or "billing.**".
+   * In this case the message will be displayed on every matching MessagePresenter
+   *
    * @return list of error sources
    */
   List<String> getErrorSources();
@@ -77,6 +82,19 @@ public interface IsDominoV2Message {
    */
   void setErrorSources(List<String> errorSources);
 
+  /**
+   * Arguments of the message template.
+   *
+   * In case the client has a message catalog containing a template for the
+   * message id, the text is rendered using the template and these arguments.
+   * Override to send the arguments instead of the rendered text.
+   *
+   * @return list of arguments (empty by default)
+   */
+  default List<String> getArguments() {
+    return Collections.emptyList();
+  }
+
   /**
    * The Target defines the place where the message will be shown.
    *
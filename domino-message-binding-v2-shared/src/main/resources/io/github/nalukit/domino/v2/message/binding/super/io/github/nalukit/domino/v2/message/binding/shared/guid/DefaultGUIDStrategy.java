@@ -0,0 +1,24 @@
+package io.github.nalukit.domino.v2.message.binding.shared.guid;
+
+/**
+ * Creates the strategy {@link io.github.nalukit.domino.v2.message.binding.shared.GUID}
+ * uses until another one is set.
+ * <p>
+ * Super-source: on the client, {@link ThreadLocalRandomGUIDStrategy} is not
+ * available, the default is a {@link RandomGUIDStrategy}.
+ */
+public final class DefaultGUIDStrategy {
+
+  private DefaultGUIDStrategy() {
+  }
+
+  /**
+   * Creates the default strategy
+   *
+   * @return the strategy
+   */
+  public static GUIDStrategy create() {
+    return new RandomGUIDStrategy();
+  }
+
+}
@@ -0,0 +1,95 @@
+package io.github.nalukit.domino.v2.message.binding.shared.catalog;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class DominoV2MessageCatalogTest {
+
+  @Test
+  public void localeFallback() {
+    DominoV2MessageCatalog catalog = new DominoV2MessageCatalog().add(DominoV2MessageCatalog.DEFAULT_LOCALE,
+                                                                      "required",
+                                                                      "Value is required")
+                                                                 .add(DominoV2MessageCatalog.DEFAULT_LOCALE,
+                                                                      "range",
+                                                                      "Value must be between {0} and {1}")
+                                                                 .add("de",
+                                                                      "required",
+                                                                      "Wert ist erforderlich")
+                                                                 .add("de_CH",
+                                                                      "range",
+                                                                      "Wert muss zwischen {0} und {1} liegen");
+
+    catalog.setLocale("de_CH");
+    assertEquals("Wert muss zwischen {0} und {1} liegen",
+                 catalog.getTemplate("range")
+                        .getPattern());
+    assertEquals("Wert ist erforderlich",
+                 catalog.getTemplate("required")
+                        .getPattern());
+
+    catalog.setLocale("de");
+    assertEquals("Value must be between {0} and {1}",
+                 catalog.getTemplate("range")
+                        .getPattern());
+
+    catalog.setLocale("fr_CH");
+    assertEquals("Value is required",
+                 catalog.getTemplate("required")
+                        .getPattern());
+
+    catalog.setLocale(null);
+    assertEquals(DominoV2MessageCatalog.DEFAULT_LOCALE,
+                 catalog.getLocale());
+    assertEquals("Value is required",
+                 catalog.getTemplate("required")
+                        .getPattern());
+    assertNull(catalog.getTemplate("unknown"));
+    assertNull(catalog.getTemplate(null));
+  }
+
+  @Test
+  public void templatesAreCached() {
+    DominoV2MessageCatalog catalog = new DominoV2MessageCatalog().add(DominoV2MessageCatalog.DEFAULT_LOCALE,
+                                                                      "required",
+                                                                      "Value is required");
+    catalog.setLocale("de_CH");
+
+    assertSame(catalog.getTemplate("required"),
+               catalog.getTemplate("required"));
+  }
+
+  @Test
+  public void addInvalidatesTheCache() {
+    DominoV2MessageCatalog catalog = new DominoV2MessageCatalog().add(DominoV2MessageCatalog.DEFAULT_LOCALE,
+                                                                      "required",
+                                                                      "Value is required");
+    catalog.setLocale("de_CH");
+    assertEquals("Value is required",
+                 catalog.getTemplate("required")
+                        .getPattern());
+    assertNull(catalog.getTemplate("range"));
+
+    // a parent locale overrides the cached fallback
+    catalog.add("de",
+                "required",
+                "Wert ist erforderlich");
+    assertEquals("Wert ist erforderlich",
+                 catalog.getTemplate("required")
+                        .getPattern());
+
+    // a cached miss is found after adding the template
+    catalog.add("de_CH",
+                Collections.singletonMap("range",
+                                         "Wert muss zwischen {0} und {1} liegen"));
+    assertEquals("Wert muss zwischen {0} und {1} liegen",
+                 catalog.getTemplate("range")
+                        .getPattern());
+  }
+
+}
@@ -0,0 +1,77 @@
+package io.github.nalukit.domino.v2.message.binding.shared.catalog;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class DominoV2MessageTemplateTest {
+
+  @Test
+  public void placeholders() {
+    List<String> arguments = Arrays.asList("a",
+                                           "b",
+                                           "c",
+                                           "d",
+                                           "e",
+                                           "f",
+                                           "g",
+                                           "h",
+                                           "i",
+                                           "j",
+                                           "k",
+                                           "l",
+                                           "m");
+
+    assertEquals("Value must be between a and b",
+                 DominoV2MessageTemplate.compile("Value must be between {0} and {1}")
+                                        .render(arguments));
+    assertEquals("m-a-m",
+                 DominoV2MessageTemplate.compile("{12}-{0}-{12}")
+                                        .render(arguments));
+    assertEquals("No placeholder",
+                 DominoV2MessageTemplate.compile("No placeholder")
+                                        .render(arguments));
+  }
+
+  @Test
+  public void strayBraces() {
+    List<String> arguments = Collections.singletonList("x");
+
+    assertEquals("{",
+                 DominoV2MessageTemplate.compile("{")
+                                        .render(arguments));
+    assertEquals("{ x }",
+                 DominoV2MessageTemplate.compile("{ {0} }")
+                                        .render(arguments));
+    assertEquals("{a} x",
+                 DominoV2MessageTemplate.compile("{a} {0}")
+                                        .render(arguments));
+    assertEquals("{0",
+                 DominoV2MessageTemplate.compile("{0")
+                                        .render(arguments));
+    assertEquals("{}",
+                 DominoV2MessageTemplate.compile("{}")
+                                        .render(arguments));
+    // more than 9 digits do not fit an int and are no placeholder
+    assertEquals("{1234567890} x",
+                 DominoV2MessageTemplate.compile("{1234567890} {0}")
+                                        .render(arguments));
+  }
+
+  @Test
+  public void missingArguments() {
+    DominoV2MessageTemplate template = DominoV2MessageTemplate.compile("Value must be between {0} and {1}");
+
+    assertEquals("Value must be between 1 and {1}",
+                 template.render(Collections.singletonList("1")));
+    assertEquals("Value must be between {0} and {1}",
+                 template.render(Collections.emptyList()));
+    assertEquals("Value must be between {0} and {1}",
+                 template.render(null));
+  }
+
+}
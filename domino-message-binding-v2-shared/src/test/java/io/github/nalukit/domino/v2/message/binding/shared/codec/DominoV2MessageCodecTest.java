@@ -0,0 +1,226 @@
+package io.github.nalukit.domino.v2.message.binding.shared.codec;
+
+import io.github.nalukit.domino.v2.message.binding.shared.model.IsDominoV2Message;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class DominoV2MessageCodecTest {
+
+  @Test
+  public void roundTrip() {
+    List<IsDominoV2Message> messages = Arrays.asList(new TestMessage("1",
+                                                                     "range",
+                                                                     "Value must be between 1 and 10",
+                                                                     IsDominoV2Message.Target.FIELD,
+                                                                     Arrays.asList("amount",
+                                                                                   "items[*].price"),
+                                                                     Arrays.asList("1",
+                                                                                   "10")),
+                                                     new TestMessage("2",
+                                                                     null,
+                                                                     "Value must be between 1 and 10",
+                                                                     null,
+                                                                     null,
+                                                                     null));
+
+    List<IsDominoV2Message> decoded = DominoV2MessageCodec.decode(DominoV2MessageCodec.encode(messages));
+
+    assertEquals(2,
+                 decoded.size());
+    IsDominoV2Message first = decoded.get(0);
+    assertEquals("1",
+                 first.getId());
+    assertEquals("range",
+                 first.getMessageId());
+    assertEquals("Value must be between 1 and 10",
+                 first.getText());
+    assertEquals(IsDominoV2Message.Target.FIELD,
+                 first.getTarget());
+    assertEquals(Arrays.asList("amount",
+                               "items[*].price"),
+                 first.getErrorSources());
+    assertEquals(Arrays.asList("1",
+                               "10"),
+                 first.getArguments());
+    IsDominoV2Message second = decoded.get(1);
+    assertNull(second.getMessageId());
+    assertNull(second.getTarget());
+    assertEquals(Collections.emptyList(),
+                 second.getErrorSources());
+    assertEquals(Collections.emptyList(),
+                 second.getArguments());
+  }
+
+  @Test
+  public void viewsAreCreatedOnce() {
+    List<IsDominoV2Message> decoded = DominoV2MessageCodec.decode(DominoV2MessageCodec.encode(Collections.singletonList(new TestMessage("1",
+                                                                                                                                        "required",
+                                                                                                                                        "Required",
+                                                                                                                                        IsDominoV2Message.Target.FIELD,
+                                                                                                                                        Collections.singletonList("name"),
+                                                                                                                                        null))));
+
+    assertSame(decoded.get(0),
+               decoded.get(0));
+    assertSame(decoded.get(0)
+                      .getErrorSources(),
+               decoded.get(0)
+                      .getErrorSources());
+  }
+
+  @Test
+  public void setterDoesNotModifyTheEncodedData() {
+    DominoV2EncodedMessages encoded = DominoV2MessageCodec.encode(Arrays.asList(new TestMessage("1",
+                                                                                                "required",
+                                                                                                "Required",
+                                                                                                IsDominoV2Message.Target.FIELD,
+                                                                                                Collections.singletonList("name"),
+                                                                                                null),
+                                                                                new TestMessage("2",
+                                                                                                "required",
+                                                                                                "Required",
+                                                                                                IsDominoV2Message.Target.FIELD,
+                                                                                                Collections.singletonList("street"),
+                                                                                                null)));
+    List<IsDominoV2Message> decoded = DominoV2MessageCodec.decode(encoded);
+
+    decoded.get(0)
+           .setText("Name is required");
+
+    assertEquals("Name is required",
+                 decoded.get(0)
+                        .getText());
+    assertEquals("Required",
+                 decoded.get(1)
+                        .getText());
+    assertEquals("Required",
+                 DominoV2MessageCodec.decode(encoded)
+                                     .get(0)
+                                     .getText());
+  }
+
+  @Test
+  public void decodesVersion1() {
+    List<IsDominoV2Message> decoded = DominoV2MessageCodec.decode(new DominoV2EncodedMessages(new String[] { "1", "Required", "name" },
+                                                                                             new int[] { 1, 1, 0, -1, 1, 2, 1, 2 }));
+
+    assertEquals(1,
+                 decoded.size());
+    assertEquals("Required",
+                 decoded.get(0)
+                        .getText());
+    assertEquals(Collections.singletonList("name"),
+                 decoded.get(0)
+                        .getErrorSources());
+    assertEquals(Collections.emptyList(),
+                 decoded.get(0)
+                        .getArguments());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsCountExceedingTheData() {
+    DominoV2MessageCodec.decode(new DominoV2EncodedMessages(new String[0],
+                                                            new int[] { DominoV2MessageCodec.VERSION, Integer.MAX_VALUE }));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsTruncatedArguments() {
+    DominoV2MessageCodec.decode(new DominoV2EncodedMessages(new String[] { "1" },
+                                                            new int[] { DominoV2MessageCodec.VERSION, 1, 0, -1, -1, -1, 0, 3, 0 }));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void rejectsUnknownString() {
+    DominoV2MessageCodec.decode(new DominoV2EncodedMessages(new String[] { "1" },
+                                                            new int[] { DominoV2MessageCodec.VERSION, 1, 0, 5, -1, -1, 0, 0 }));
+  }
+
+  private static class TestMessage
+      implements IsDominoV2Message {
+
+    private String       id;
+    private String       messageId;
+    private String       text;
+    private Target       target;
+    private List<String> errorSources;
+    private List<String> arguments;
+
+    TestMessage(String id,
+                String messageId,
+                String text,
+                Target target,
+                List<String> errorSources,
+                List<String> arguments) {
+      this.id = id;
+      this.messageId = messageId;
+      this.text = text;
+      this.target = target;
+      this.errorSources = errorSources;
+      this.arguments = arguments;
+    }
+
+    @Override
+    public String getId() {
+      return this.id;
+    }
+
+    @Override
+    public void setId(String id) {
+      this.id = id;
+    }
+
+    @Override
+    public String getMessageId() {
+      return this.messageId;
+    }
+
+    @Override
+    public void setMessageId(String messageId) {
+      this.messageId = messageId;
+    }
+
+    @Override
+    public String getText() {
+      return this.text;
+    }
+
+    @Override
+    public void setText(String text) {
+      this.text = text;
+    }
+
+    @Override
+    public Target getTarget() {
+      return this.target;
+    }
+
+    @Override
+    public void setTarget(Target target) {
+      this.target = target;
+    }
+
+    @Override
+    public List<String> getErrorSources() {
+      return this.errorSources;
+    }
+
+    @Override
+    public void setErrorSources(List<String> errorSources) {
+      this.errorSources = errorSources;
+    }
+
+    @Override
+    public List<String> getArguments() {
+      return this.arguments;
+    }
+
+  }
+
+}
@@ -0,0 +1,18 @@
+package io.github.nalukit.domino.v2.message.binding.shared.guid;
+
+import io.github.nalukit.domino.v2.message.binding.shared.GUID;
+import org.junit.Test;
+
+import static org.junit.Assert.assertTrue;
+
+public class DefaultGUIDStrategyTest {
+
+  @Test
+  public void threadLocalRandomOnTheJvm() {
+    assertTrue(DefaultGUIDStrategy.create() instanceof ThreadLocalRandomGUIDStrategy);
+    assertTrue(GUID.getStrategy() instanceof ThreadLocalRandomGUIDStrategy);
+    assertTrue(GUID.get()
+                   .matches("[0-9A-F]{8}-[0-9A-F]{4}-4[0-9A-F]{3}-[89AB][0-9A-F]{3}-[0-9A-F]{12}"));
+  }
+
+}